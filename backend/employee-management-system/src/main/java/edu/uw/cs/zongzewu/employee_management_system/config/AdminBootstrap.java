@@ -0,0 +1,65 @@
+package edu.uw.cs.zongzewu.employee_management_system.config;
+
+import edu.uw.cs.zongzewu.employee_management_system.entity.User;
+import edu.uw.cs.zongzewu.employee_management_system.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the first ADMIN account at startup when the database has none,
+ * register only creates USER accounts and the prod profile does not load db/seed.
+ * Nothing happens once any ADMIN exists, so changing app.bootstrap.admin later never touches existing accounts
+ */
+@Slf4j
+@Component
+public class AdminBootstrap implements ApplicationRunner {
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final String username;
+    private final String password;
+    private final String email;
+
+    public AdminBootstrap(UserRepository userRepository,
+                          PasswordEncoder passwordEncoder,
+                          @Value("${app.bootstrap.admin.username:admin}") String username,
+                          @Value("${app.bootstrap.admin.password:}") String password,
+                          @Value("${app.bootstrap.admin.email:admin@company.com}") String email) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.username = username;
+        this.password = password;
+        this.email = email;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (userRepository.existsByRole(User.Role.ADMIN)) {
+            return;
+        }
+        if (password == null || password.isBlank()) {
+            log.warn("No ADMIN account exists and app.bootstrap.admin.password (ADMIN_PASSWORD) is not set, "
+                    + "ADMIN-only endpoints cannot be used");
+            return;
+        }
+        if (userRepository.existsByUsername(username) || userRepository.existsByEmail(email)) {
+            // promoting an existing account would hand ADMIN to whoever registered the name first
+            log.warn("No ADMIN account exists but username {} or email {} is already taken, no ADMIN created",
+                    username, email);
+            return;
+        }
+
+        User admin = new User();
+        admin.setUsername(username);
+        admin.setPassword(passwordEncoder.encode(password));
+        admin.setEmail(email);
+        admin.setRole(User.Role.ADMIN);
+        admin.setEnabled(true);
+        userRepository.save(admin);
+        log.info("Created ADMIN account {}", username);
+    }
+}
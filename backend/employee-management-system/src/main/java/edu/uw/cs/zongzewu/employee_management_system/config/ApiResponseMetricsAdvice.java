@@ -0,0 +1,73 @@
+package edu.uw.cs.zongzewu.employee_management_system.config;
+
+import edu.uw.cs.zongzewu.employee_management_system.dto.ApiResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Map;
+
+/**
+ * Counts API responses by the success flag in the body, http.server.requests only sees the status
+ * and several endpoints answer failures with 200 or a generic 400.
+ * Bodies are ApiResponse or a Map with a "success" key, anything else is counted as outcome=none
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class ApiResponseMetricsAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String METRIC = "app.api.responses";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            Object pattern = servletRequest.getServletRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            // the route template keeps the tag values bounded, unmatched requests share one
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            String status = response instanceof ServletServerHttpResponse servletResponse
+                    ? String.valueOf(servletResponse.getServletResponse().getStatus())
+                    : "UNKNOWN";
+            Counter.builder(METRIC)
+                    .description("API responses by the success flag of the body")
+                    .tag("method", servletRequest.getMethod().name())
+                    .tag("uri", uri)
+                    .tag("status", status)
+                    .tag("outcome", outcome(body))
+                    .register(meterRegistry)
+                    .increment();
+        }
+        return body;
+    }
+
+    static String outcome(Object body) {
+        Object success = null;
+        if (body instanceof ApiResponse<?> apiResponse) {
+            success = apiResponse.isSuccess();
+        } else if (body instanceof Map<?, ?> map) {
+            success = map.get("success");
+        }
+        if (success instanceof Boolean flag) {
+            return flag ? "success" : "failure";
+        }
+        return "none";
+    }
+}
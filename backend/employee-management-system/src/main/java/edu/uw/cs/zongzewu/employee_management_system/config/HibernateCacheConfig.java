@@ -0,0 +1,75 @@
+package edu.uw.cs.zongzewu.employee_management_system.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level cache, in-process Caffeine behind the JCache region factory
+ * Departments change rarely and are read on every employee write and DepartmentSummaryDTO mapping,
+ * each node keeps its own copy, bounded by size and expired after write so changes made on another node show up after the TTL
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    /** Department entities by id */
+    public static final String DEPARTMENT_REGION = "departments";
+
+    /** DepartmentRepository.findByName results */
+    public static final String DEPARTMENT_QUERY_REGION = "department-queries";
+
+    /** results of cacheable queries without a region of their own, created by Hibernate at startup once the query cache is on */
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+
+    /** last write time per table, Hibernate checks it before using a query cache entry so it must never expire */
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Value("${app.cache.department.ttl:10m}")
+    private Duration departmentTtl;
+
+    @Value("${app.cache.department.max-size:10000}")
+    private long departmentMaxSize;
+
+    /**
+     * one provider per application context, tests that start several contexts do not share cached rows
+     */
+    @Bean(destroyMethod = "close")
+    public CachingProvider hibernateCachingProvider() {
+        return new CaffeineCachingProvider();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CachingProvider hibernateCachingProvider) {
+        CacheManager cacheManager = hibernateCachingProvider.getCacheManager();
+        cacheManager.createCache(DEPARTMENT_REGION, boundedRegion());
+        cacheManager.createCache(DEPARTMENT_QUERY_REGION, boundedRegion());
+        cacheManager.createCache(QUERY_RESULTS_REGION, boundedRegion());
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, new CaffeineConfiguration<>());
+
+        return properties -> {
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            // every region is created above, a new @Cache without a region here fails at startup instead of going unbounded
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private CaffeineConfiguration<Object, Object> boundedRegion() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(departmentMaxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(departmentTtl.toNanos()));
+        return configuration;
+    }
+}
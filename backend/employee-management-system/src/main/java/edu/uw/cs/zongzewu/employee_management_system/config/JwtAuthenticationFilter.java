@@ -1,21 +1,29 @@
 package edu.uw.cs.zongzewu.employee_management_system.config;
 
 import edu.uw.cs.zongzewu.employee_management_system.service.CustomUserDetailsService;
+import edu.uw.cs.zongzewu.employee_management_system.service.TokenRevocationStore;
+import edu.uw.cs.zongzewu.employee_management_system.service.UserStateCache;
 import edu.uw.cs.zongzewu.employee_management_system.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -23,6 +31,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
+    private final UserStateCache userStateCache;
+    private final TokenRevocationStore tokenRevocationStore;
+
+    // build the principal from the token's authorities/enabled claims instead of loading the user
+    @Value("${jwt.stateless-auth:true}")
+    private boolean statelessAuth;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -32,17 +46,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         final String requestTokenHeader = request.getHeader("Authorization");
 
         String username = null;
-        String jwtToken = null;
+        Claims claims = null;
 
         // JWT Token is in the form "Bearer token"
         if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
-            jwtToken = requestTokenHeader.substring(7);
+            String jwtToken = requestTokenHeader.substring(7);
             try {
-                username = jwtUtil.extractUsername(jwtToken);
+                // signature and expiration are checked once here, the claims are trusted from now on
+                claims = jwtUtil.verify(jwtToken);
+                if (tokenRevocationStore.isRevoked(claims.getId())) {
+                    logger.warn("JWT Token has been revoked");
+                } else {
+                    username = claims.getSubject();
+                }
             } catch (IllegalArgumentException e) {
                 logger.error("Unable to get JWT Token");
             } catch (ExpiredJwtException e) {
                 logger.error("JWT Token has expired");
+            } catch (JwtException e) {
+                logger.error("JWT Token is invalid");
             }
         } else {
             logger.warn("JWT Token does not begin with Bearer String");
@@ -51,10 +73,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Once we get the token validate it
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            List<String> authorities = statelessAuth ? jwtUtil.extractAuthorities(claims) : null;
+            UserDetails userDetails;
+            if (authorities != null) {
+                // a user disabled or given another role since the token was issued is rejected within the cache TTL
+                boolean enabled = jwtUtil.extractEnabled(claims);
+                userDetails = userStateCache.get(username).matches(authorities, enabled)
+                        ? User.withUsername(username)
+                                .password("")
+                                .authorities(AuthorityUtils.createAuthorityList(authorities))
+                                .build()
+                        : null;
+            } else {
+                // refresh tokens and tokens issued before the claims existed
+                userDetails = this.userDetailsService.loadUserByUsername(username);
+            }
 
-            // if token is valid configure Spring Security to manually set authentication
-            if (jwtUtil.validateToken(jwtToken, userDetails)) {
+            // token was verified above, configure Spring Security to manually set authentication
+            if (userDetails != null && userDetails.getUsername().equals(username)) {
 
                 UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
                         new UsernamePasswordAuthenticationToken(
@@ -70,4 +106,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,27 @@
+package edu.uw.cs.zongzewu.employee_management_system.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics that Spring Boot does not register on its own.
+ * Boot already times every request (http.server.requests), every repository call
+ * (spring.data.repository.invocations), the Hikari pool, Hibernate statistics and the JVM,
+ * the histograms/percentiles for them are set under management.metrics in application.yml
+ */
+@Configuration
+public class MetricsConfig {
+
+    /** service timer, one series per class + method, tagged with the exception thrown if any */
+    public static final String SERVICE_TIMER = "app.service";
+
+    /**
+     * makes @Timed work on the service classes
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -0,0 +1,52 @@
+package edu.uw.cs.zongzewu.employee_management_system.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Lets Prometheus scrape /actuator/prometheus with a static bearer token (app.metrics.scrape-token),
+ * a scraper cannot log in for a JWT every hour. The token only grants ROLE_METRICS,
+ * which SecurityConfig allows on the scrape endpoint and nowhere else. Empty token turns it off
+ */
+@Component
+public class MetricsScrapeTokenFilter extends OncePerRequestFilter {
+
+    public static final String SCRAPE_PATH = "/actuator/prometheus";
+
+    private final byte[] scrapeToken;
+
+    public MetricsScrapeTokenFilter(@Value("${app.metrics.scrape-token:}") String scrapeToken) {
+        this.scrapeToken = scrapeToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return scrapeToken.length == 0 || !SCRAPE_PATH.equals(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader("Authorization");
+        if (header != null && header.startsWith("Bearer ")
+                && MessageDigest.isEqual(scrapeToken, header.substring(7).getBytes(StandardCharsets.UTF_8))
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    "prometheus", null, AuthorityUtils.createAuthorityList("ROLE_METRICS")));
+        }
+        filterChain.doFilter(request, response);
+    }
+}
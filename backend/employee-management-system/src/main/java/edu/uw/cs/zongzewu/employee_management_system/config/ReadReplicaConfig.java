@@ -0,0 +1,75 @@
+package edu.uw.cs.zongzewu.employee_management_system.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Read replicas for @Transactional(readOnly = true), off unless app.datasource.read-replicas.enabled is true.
+ * spring.datasource stays the primary, Flyway and every write use it
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.read-replicas", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaConfig {
+
+    /**
+     * the pool Spring Boot would build from spring.datasource, spring.datasource.hikari still applies
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                     DataSourceProperties dataSourceProperties,
+                                                                     ReadReplicaProperties properties) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < properties.getUrls().size(); i++) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(properties.getUrls().get(i))
+                    .username(properties.getUsername() != null
+                            ? properties.getUsername() : dataSourceProperties.determineUsername())
+                    .password(properties.getPassword() != null
+                            ? properties.getPassword() : dataSourceProperties.determinePassword())
+                    .build();
+            replica.setPoolName("replica-" + i);
+            replica.setReadOnly(true);
+            replica.setMaximumPoolSize(properties.getMaxPoolSize());
+            replica.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+            // a replica that is down at startup must not stop the application, the health check finds it later
+            replica.setInitializationFailTimeout(-1);
+            replicas.put(replica.getPoolName(), replica);
+        }
+
+        ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(primaryDataSource, replicas,
+                properties.getStickyWindow(), properties.getLagQuery(), properties.getMaxLag());
+        routing.startHealthChecks(properties.getCheckInterval());
+        return routing;
+    }
+
+    /**
+     * the DataSource JPA, JdbcTemplate and Flyway use,
+     * connections are fetched on the first statement, after the transaction is marked read-only
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,47 @@
+package edu.uw.cs.zongzewu.employee_management_system.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * app.datasource.read-replicas, see ReadReplicaConfig
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.read-replicas")
+public class ReadReplicaProperties {
+
+    private boolean enabled;
+
+    /** JDBC urls of the replicas, one pool each */
+    private List<String> urls = new ArrayList<>();
+
+    /** defaults to spring.datasource.username/password */
+    private String username;
+    private String password;
+
+    private int maxPoolSize = 10;
+
+    /** how long a replica connection request may wait before falling back to the primary */
+    private Duration connectionTimeout = Duration.ofSeconds(2);
+
+    /** reads by a user who wrote within this window go to the primary */
+    private Duration stickyWindow = Duration.ofSeconds(5);
+
+    private Duration checkInterval = Duration.ofSeconds(5);
+
+    /** replicas further behind than this are skipped until they catch up */
+    private Duration maxLag = Duration.ofSeconds(10);
+
+    /**
+     * returns the replica lag in seconds, 0 on a server that is not in recovery
+     * a replica that has replayed all the WAL it received is caught up, however long ago the primary last wrote,
+     * only while WAL is waiting to be replayed is the lag the age of the last replayed transaction
+     */
+    private String lagQuery = "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 "
+            + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+}
@@ -0,0 +1,198 @@
+package edu.uw.cs.zongzewu.employee_management_system.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends connections for read-only transactions to a healthy replica, round robin, everything else to the primary.
+ * A user who committed a write within the sticky window keeps reading from the primary so they see their own change.
+ * Replicas are checked on a schedule with the lag query, one that fails or lags too far is skipped,
+ * with no healthy replica reads go to the primary.
+ * Must sit behind a LazyConnectionDataSourceProxy, the transaction manager asks for the connection
+ * before it marks the transaction read-only
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Cache<String, Boolean> recentWriters;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+    private ScheduledExecutorService healthChecks;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                        Duration stickyWindow, String lagQuery, Duration maxLag) {
+        this.primary = primary;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(100_000)
+                .build();
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    /**
+     * check the replicas now and then every interval, they take no reads until their first check passes
+     */
+    public void startHealthChecks(Duration interval) {
+        healthChecks = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecks.scheduleWithFixedDelay(this::checkReplicas, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * run the lag query on every replica and mark it up or down
+     */
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            replica.check();
+        }
+    }
+
+    /**
+     * @return names of the replicas currently taking reads
+     */
+    public List<String> getHealthyReplicas() {
+        return replicas.stream().filter(replica -> replica.healthy).map(replica -> replica.name).toList();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = route();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException e) {
+            replica.markDown(e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // only used with explicit credentials, which the replicas do not share
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * @return the replica for this connection, null for the primary
+     */
+    private Replica route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                rememberWriter();
+            }
+            return null;
+        }
+        String user = currentUser();
+        if (user != null && recentWriters.getIfPresent(user) != null) {
+            return null;
+        }
+        List<Replica> healthy = replicas.stream().filter(replica -> replica.healthy).toList();
+        if (healthy.isEmpty()) {
+            return null;
+        }
+        return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size()));
+    }
+
+    private void rememberWriter() {
+        String user = currentUser();
+        if (user == null) {
+            return;
+        }
+        recentWriters.put(user, Boolean.TRUE);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // the window starts again at commit, a long transaction does not use it up
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWriters.put(user, Boolean.TRUE);
+                }
+            });
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (healthChecks != null) {
+            healthChecks.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private void check() {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(2);
+                try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                    resultSet.next();
+                    double lagSeconds = resultSet.getDouble(1);
+                    if (lagSeconds * 1000 > maxLag.toMillis()) {
+                        markDown("lag " + lagSeconds + "s");
+                    } else if (!healthy) {
+                        healthy = true;
+                        log.info("Replica {} is up, lag {}s", name, lagSeconds);
+                    }
+                }
+            } catch (SQLException e) {
+                markDown(e.getMessage());
+            }
+        }
+
+        private void markDown(String reason) {
+            if (healthy) {
+                log.warn("Replica {} is down, reads go elsewhere: {}", name, reason);
+            }
+            healthy = false;
+        }
+    }
+}
@@ -25,6 +25,7 @@ public class SecurityConfig {
 
     private final CustomUserDetailsService userDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final MetricsScrapeTokenFilter metricsScrapeTokenFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 
     @Bean
@@ -69,8 +70,11 @@ public class SecurityConfig {
 
                         // Actuator
                         .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers(MetricsScrapeTokenFilter.SCRAPE_PATH).hasAnyRole("ADMIN", "METRICS")
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                         // Admin only endpoints
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/employees/**").hasAnyRole("ADMIN", "USER")
                         .requestMatchers("/api/departments/**").hasRole("ADMIN")
 
@@ -79,7 +83,8 @@ public class SecurityConfig {
                 )
                 .headers(headers -> headers
                         .frameOptions(HeadersConfigurer.FrameOptionsConfig::deny))
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(metricsScrapeTokenFilter, JwtAuthenticationFilter.class);
 
         System.out.println("Security config done with JWT authentication");
         return http.build();
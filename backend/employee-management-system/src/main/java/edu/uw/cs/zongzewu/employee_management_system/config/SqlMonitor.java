@@ -0,0 +1,320 @@
+package edu.uw.cs.zongzewu.employee_management_system.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Watches the SQL sent while serving each API request, in place of show-sql.
+ * Statements come from the datasource-proxy listener (SqlMonitorConfig), SqlMonitorInterceptor marks
+ * where a request starts and ends on its thread.
+ * The same statement shape run repeat-threshold times or more in one request is reported as N+1,
+ * a statement slower than slow-threshold is reported on its own, wherever it ran.
+ * The last max-findings reports and per controller method totals are kept for /api/admin/sql-monitor,
+ * bind values of the redact-columns (and anything that looks like an email) are masked
+ */
+@Slf4j
+@Component
+public class SqlMonitor implements QueryExecutionListener {
+
+    public enum FindingType {
+        N_PLUS_ONE, SLOW
+    }
+
+    /**
+     * @param handler controller method, e.g. DepartmentController#getAllDepartments
+     * @param sql normalized statement
+     * @param binds bind values of the first execution, redacted
+     * @param durationMs time of the statement, total of all executions for N_PLUS_ONE
+     * @param executions times the statement ran in the request, 1 for SLOW
+     */
+    public record Finding(FindingType type, String handler, String sql, List<Object> binds,
+                          long durationMs, int executions, LocalDateTime at) {
+    }
+
+    public record HandlerStats(String handler, long requests, long statements, long maxStatements,
+                               long totalTimeMs) {
+    }
+
+    public record Report(List<HandlerStats> handlers, List<Finding> findings) {
+    }
+
+    static final String REDACTED = "***";
+    static final String NO_REQUEST = "(no request)";
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern INSERT_COLUMNS = Pattern.compile("(?i)^insert\\s+into\\s+\\S+\\s*\\(([^)]*)\\)");
+    // column a placeholder is compared with or assigned to: "e.email=?", "lower(e.name) like lower(?", "id in (?,?"
+    private static final Pattern COLUMN_BEFORE_PLACEHOLDER = Pattern.compile(
+            "(?i)([\\w.]+)\\)?\\s*(?:=|<>|!=|<=|>=|<|>|\\blike\\b|\\bin\\s*\\((?:\\s*\\?\\s*,)*)\\s*(?:\\w+\\s*\\()?\\s*$");
+    private static final int MAX_BIND_LENGTH = 100;
+
+    /** normalized shape and the column of each placeholder, worked out once per distinct SQL string */
+    private record Statement(String shape, List<String> placeholderColumns) {
+    }
+
+    private static final class RequestContext {
+        final String handler;
+        final Map<String, Repeated> shapes = new HashMap<>();
+        int statements;
+        long timeMs;
+
+        RequestContext(String handler) {
+            this.handler = handler;
+        }
+    }
+
+    private static final class Repeated {
+        final List<Object> firstBinds;
+        int executions;
+        long timeMs;
+
+        Repeated(List<Object> firstBinds) {
+            this.firstBinds = firstBinds;
+        }
+    }
+
+    private static final class HandlerTotals {
+        final LongAdder requests = new LongAdder();
+        final LongAdder statements = new LongAdder();
+        final LongAdder timeMs = new LongAdder();
+        final AtomicLong maxStatements = new AtomicLong();
+    }
+
+    private final long slowThresholdMs;
+    private final int repeatThreshold;
+    private final int maxFindings;
+    private final Set<String> redactColumns;
+    private final Cache<String, Statement> statements = Caffeine.newBuilder().maximumSize(2_000).build();
+    private final ThreadLocal<RequestContext> current = new ThreadLocal<>();
+    private final Map<String, HandlerTotals> totals = new ConcurrentHashMap<>();
+    private final Deque<Finding> findings = new ArrayDeque<>();
+    private final Counter nPlusOneFindings;
+    private final Counter slowFindings;
+
+    public SqlMonitor(MeterRegistry meterRegistry,
+                      @Value("${app.sql-monitor.slow-threshold:200ms}") Duration slowThreshold,
+                      @Value("${app.sql-monitor.repeat-threshold:5}") int repeatThreshold,
+                      @Value("${app.sql-monitor.max-findings:200}") int maxFindings,
+                      @Value("${app.sql-monitor.redact-columns:salary,email,password}") List<String> redactColumns) {
+        this.slowThresholdMs = slowThreshold.toMillis();
+        this.repeatThreshold = repeatThreshold;
+        this.maxFindings = maxFindings;
+        this.redactColumns = redactColumns.stream()
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.nPlusOneFindings = Counter.builder("app.sql.findings").tag("type", "n_plus_one")
+                .description("Requests that ran one statement shape repeat-threshold times or more")
+                .register(meterRegistry);
+        this.slowFindings = Counter.builder("app.sql.findings").tag("type", "slow")
+                .description("Statements slower than slow-threshold")
+                .register(meterRegistry);
+    }
+
+    /**
+     * start counting statements on this thread for a request, a request already in progress is kept
+     * @param handler controller method serving it
+     */
+    public void begin(String handler) {
+        if (current.get() == null) {
+            current.set(new RequestContext(handler));
+        }
+    }
+
+    /**
+     * stop counting on this thread, add the request to its handler's totals and report repeated statements
+     */
+    public void end() {
+        RequestContext context = current.get();
+        if (context == null) {
+            return;
+        }
+        current.remove();
+
+        HandlerTotals handlerTotals = totals.computeIfAbsent(context.handler, handler -> new HandlerTotals());
+        handlerTotals.requests.increment();
+        handlerTotals.statements.add(context.statements);
+        handlerTotals.timeMs.add(context.timeMs);
+        handlerTotals.maxStatements.accumulateAndGet(context.statements, Math::max);
+
+        context.shapes.forEach((shape, repeated) -> {
+            if (repeated.executions >= repeatThreshold) {
+                nPlusOneFindings.increment();
+                record(new Finding(FindingType.N_PLUS_ONE, context.handler, shape, repeated.firstBinds,
+                        repeated.timeMs, repeated.executions, LocalDateTime.now()));
+            }
+        });
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty()) {
+            return;
+        }
+        // a JDBC batch is one round trip, it is counted once under its first statement
+        QueryInfo query = queryInfoList.get(0);
+        Statement statement = statements.get(query.getQuery(), SqlMonitor::analyze);
+        long elapsed = execInfo.getElapsedTime();
+        RequestContext context = current.get();
+
+        if (context != null) {
+            context.statements++;
+            context.timeMs += elapsed;
+            Repeated repeated = context.shapes.computeIfAbsent(statement.shape(),
+                    shape -> new Repeated(redact(bindValues(query), statement.placeholderColumns())));
+            repeated.executions++;
+            repeated.timeMs += elapsed;
+        }
+        if (elapsed >= slowThresholdMs) {
+            slowFindings.increment();
+            record(new Finding(FindingType.SLOW, context != null ? context.handler : NO_REQUEST, statement.shape(),
+                    redact(bindValues(query), statement.placeholderColumns()), elapsed, 1, LocalDateTime.now()));
+        }
+    }
+
+    private void record(Finding finding) {
+        log.warn("SQL {} in {}: {} executions, {} ms: {} {}", finding.type(), finding.handler(),
+                finding.executions(), finding.durationMs(), finding.sql(), finding.binds());
+        synchronized (findings) {
+            findings.addFirst(finding);
+            while (findings.size() > maxFindings) {
+                findings.removeLast();
+            }
+        }
+    }
+
+    /**
+     * @return per handler totals, most statements first, and the latest findings, newest first
+     */
+    public Report getReport() {
+        List<HandlerStats> handlers = totals.entrySet().stream()
+                .map(entry -> new HandlerStats(entry.getKey(),
+                        entry.getValue().requests.sum(),
+                        entry.getValue().statements.sum(),
+                        entry.getValue().maxStatements.get(),
+                        entry.getValue().timeMs.sum()))
+                .sorted(Comparator.comparingLong(HandlerStats::statements).reversed())
+                .toList();
+        synchronized (findings) {
+            return new Report(handlers, List.copyOf(findings));
+        }
+    }
+
+    public void reset() {
+        totals.clear();
+        synchronized (findings) {
+            findings.clear();
+        }
+    }
+
+    private static Statement analyze(String sql) {
+        return new Statement(normalize(sql), placeholderColumns(sql));
+    }
+
+    /**
+     * one line, single spaces, IN lists of any length collapsed so they count as one shape
+     */
+    static String normalize(String sql) {
+        String singleLine = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return IN_LIST.matcher(singleLine).replaceAll("in (?...)");
+    }
+
+    /**
+     * @return unqualified lower case column for each placeholder in order, null where it cannot be told
+     */
+    static List<String> placeholderColumns(String sql) {
+        String singleLine = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        Matcher insert = INSERT_COLUMNS.matcher(singleLine);
+        if (insert.find()) {
+            List<String> columns = new ArrayList<>();
+            for (String column : insert.group(1).split(",")) {
+                columns.add(unqualified(column.trim()));
+            }
+            return columns;
+        }
+        List<String> columns = new ArrayList<>();
+        for (int i = singleLine.indexOf('?'); i >= 0; i = singleLine.indexOf('?', i + 1)) {
+            Matcher column = COLUMN_BEFORE_PLACEHOLDER.matcher(singleLine.substring(Math.max(0, i - 200), i));
+            columns.add(column.find() ? unqualified(column.group(1)) : null);
+        }
+        return columns;
+    }
+
+    private static String unqualified(String column) {
+        return column.substring(column.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return values of the first parameter set by placeholder index
+     */
+    static List<Object> bindValues(QueryInfo query) {
+        if (query.getParametersList().isEmpty()) {
+            return List.of();
+        }
+        List<Object> values = new ArrayList<>();
+        query.getParametersList().get(0).stream()
+                .filter(operation -> operation.getArgs().length > 1 && operation.getArgs()[0] instanceof Integer)
+                .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+                .forEach(operation -> values.add(value(operation)));
+        return values;
+    }
+
+    private static Object value(ParameterSetOperation operation) {
+        // setNull(index, sqlType), the second argument is not the value
+        return "setNull".equals(operation.getMethod().getName()) ? null : operation.getArgs()[1];
+    }
+
+    List<Object> redact(List<Object> values, List<String> columns) {
+        List<Object> redacted = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            Object value = values.get(i);
+            String column = i < columns.size() ? columns.get(i) : null;
+            if (value == null) {
+                redacted.add(null);
+            } else if ((column != null && redactColumns.contains(column))
+                    || (value instanceof String text && text.indexOf('@') > 0)) {
+                redacted.add(REDACTED);
+            } else if (value instanceof String text && text.length() > MAX_BIND_LENGTH) {
+                redacted.add(text.substring(0, MAX_BIND_LENGTH) + "...");
+            } else if (value instanceof Number || value instanceof Boolean || value instanceof String) {
+                redacted.add(value);
+            } else {
+                // dates, enums, byte arrays: keep the report JSON-friendly
+                redacted.add(String.valueOf(value));
+            }
+        }
+        return Collections.unmodifiableList(redacted);
+    }
+}
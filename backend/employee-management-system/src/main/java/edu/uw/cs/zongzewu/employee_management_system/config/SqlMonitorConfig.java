@@ -0,0 +1,37 @@
+package edu.uw.cs.zongzewu.employee_management_system.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Sends every statement on the application DataSource to SqlMonitor.
+ * Only the bean named dataSource is wrapped, with read replicas that is the routing proxy in front of
+ * the primary and the replicas, so each statement is seen once
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.sql-monitor", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMonitorConfig {
+
+    // static so the DataSource is still created after this post-processor is registered
+    @Bean
+    static BeanPostProcessor sqlMonitorDataSource(ObjectProvider<SqlMonitor> sqlMonitor) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("sql-monitor")
+                            .listener(sqlMonitor.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
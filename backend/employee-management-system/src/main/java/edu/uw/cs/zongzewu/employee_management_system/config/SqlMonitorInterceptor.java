@@ -0,0 +1,38 @@
+package edu.uw.cs.zongzewu.employee_management_system.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Tells SqlMonitor which controller method the statements on this thread belong to.
+ * Response serialization, and so lazy loading in the DTO mapping, happens before afterCompletion and is counted.
+ * Async handlers (the streaming export) are only followed until the request thread is released
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlMonitorInterceptor implements AsyncHandlerInterceptor {
+
+    private final SqlMonitor sqlMonitor;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod method) {
+            sqlMonitor.begin(method.getBeanType().getSimpleName() + "#" + method.getMethod().getName());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        sqlMonitor.end();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        sqlMonitor.end();
+    }
+}
@@ -3,6 +3,8 @@ package edu.uw.cs.zongzewu.employee_management_system.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.AsyncTaskExecutor;
@@ -10,6 +12,7 @@ import org.springframework.format.FormatterRegistry;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.PathMatchConfigurer;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -24,7 +27,14 @@ import java.util.List;
  * Used with CorsConfig
  */
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
+
+    private final SqlMonitorInterceptor sqlMonitorInterceptor;
+
+    @Value("${app.async.timeout-ms:1800000}")
+    private long asyncTimeoutMs;
+
     /**
      * Configure Jackson ObjectMapper
      * Handle JSON serialization and deserialization
@@ -163,7 +173,8 @@ public class WebConfig implements WebMvcConfigurer {
      */
     @Override
     public void configureAsyncSupport(org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer configurer) {
-        configurer.setDefaultTimeout(30000); // 30 秒超时
+        // StreamingResponseBody exports run as async requests, a full dump can take much longer than 30s
+        configurer.setDefaultTimeout(asyncTimeoutMs);
         configurer.setTaskExecutor(taskExecutor());
 
         System.out.println("Async support configured");
@@ -185,16 +196,14 @@ public class WebConfig implements WebMvcConfigurer {
     }
 
     /**
-     * Configure interceptors (if needed)
+     * Configure interceptors
+     * SqlMonitor attributes statements to the controller method serving the request
      */
-    /*
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new LoggingInterceptor())
-                .addPathPatterns("/api/**")
-                .excludePathPatterns("/api/auth/**");
+        registry.addInterceptor(sqlMonitorInterceptor)
+                .addPathPatterns("/api/**");
     }
-    */
 
     /**
      * Configure parameter parser (if custom parameter parsing is required)
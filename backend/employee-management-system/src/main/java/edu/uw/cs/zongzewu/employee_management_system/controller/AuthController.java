@@ -2,6 +2,7 @@ package edu.uw.cs.zongzewu.employee_management_system.controller;
 
 import edu.uw.cs.zongzewu.employee_management_system.dto.*;
 import edu.uw.cs.zongzewu.employee_management_system.service.AuthService;
+import edu.uw.cs.zongzewu.employee_management_system.service.LoginRejectedException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,8 +12,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -68,7 +72,9 @@ public class AuthController {
                     """
                             )
                     )
-            )
+            ),
+            @ApiResponse(responseCode = "429", description = "Too many login attempts for the username or from the address"),
+            @ApiResponse(responseCode = "503", description = "Password hashing is saturated, retry shortly")
     })
     public ResponseEntity<?> login(
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -86,14 +92,17 @@ public class AuthController {
                             )
                     )
             )
-            @Valid @RequestBody LoginRequest loginRequest) {
+            @Valid @RequestBody LoginRequest loginRequest,
+            HttpServletRequest request) {
         try {
-            AuthResponse authResponse = authService.login(loginRequest);
+            AuthResponse authResponse = authService.login(loginRequest, request.getRemoteAddr());
             return ResponseEntity.ok(Map.of(
                     "success", true,
                     "message", "Login successful",
                     "data", authResponse
             ));
+        } catch (LoginRejectedException e) {
+            return rejected(e);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(Map.of(
                     "success", false,
@@ -118,6 +127,8 @@ public class AuthController {
                     "success", true,
                     "message", "Registration successful"
             ));
+        } catch (LoginRejectedException e) {
+            return rejected(e);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(Map.of(
                     "success", false,
@@ -181,14 +192,16 @@ public class AuthController {
     @PostMapping("/logout")
     @Operation(
             summary = "User logout",
-            description = "Logout user (client-side token removal)"
+            description = "Revoke the access token, and the refresh token if one is sent in the body"
     )
     @SecurityRequirement(name = "Bearer Authentication")
     public ResponseEntity<?> logout(
             @Parameter(description = "Authorization header with Bearer token")
-            @RequestHeader(value = "Authorization", required = false) String authHeader) {
-        // For JWT, logout is handled on the client side by removing the token
-        // Server-side token blacklisting can be implemented later if needed
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestBody(required = false) TokenRefreshRequest tokenRefreshRequest) {
+        String accessToken = authHeader != null && authHeader.startsWith("Bearer ") ? authHeader.substring(7) : null;
+        String refreshToken = tokenRefreshRequest != null ? tokenRefreshRequest.getRefreshToken() : null;
+        authService.logout(accessToken, refreshToken);
         return ResponseEntity.ok(Map.of(
                 "success", true,
                 "message", "Logout successful"
@@ -232,4 +245,19 @@ public class AuthController {
                 "timestamp", System.currentTimeMillis()
         ));
     }
-}
\ No newline at end of file
+
+    /**
+     * 429 when the caller is throttled, 503 when password hashing is saturated, both with Retry-After
+     */
+    private ResponseEntity<?> rejected(LoginRejectedException e) {
+        HttpStatus status = e.getReason() == LoginRejectedException.Reason.THROTTLED
+                ? HttpStatus.TOO_MANY_REQUESTS
+                : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(Map.of(
+                        "success", false,
+                        "message", e.getMessage()
+                ));
+    }
+}
@@ -5,9 +5,13 @@ import edu.uw.cs.zongzewu.employee_management_system.dto.CreateDepartmentRequest
 import edu.uw.cs.zongzewu.employee_management_system.dto.DepartmentDTO;
 import edu.uw.cs.zongzewu.employee_management_system.dto.UpdateDepartmentRequest;
 import edu.uw.cs.zongzewu.employee_management_system.entity.Department;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Employee;
 import edu.uw.cs.zongzewu.employee_management_system.service.DepartmentService;
+import edu.uw.cs.zongzewu.employee_management_system.util.PaginationUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -16,7 +20,6 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -30,24 +33,25 @@ public class DepartmentController {
 
     /**
      * Get all departments
-     * GET /api/departments
+     * GET /api/departments?page=0&size=20&sort=name
      * @param includeEmployees Whether to include employee details (default: false)
-     * @return ApiResponse<List<DepartmentDTO>>
+     * @return ApiResponse<PageResponse<DepartmentDTO>>
      */
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<DepartmentDTO>>> getAllDepartments(
-            @RequestParam(value = "includeEmployees", defaultValue = "false") boolean includeEmployees) {
+    public ResponseEntity<ApiResponse<ApiResponse.PageResponse<DepartmentDTO>>> getAllDepartments(
+            @RequestParam(value = "includeEmployees", defaultValue = "false") boolean includeEmployees,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort) {
+        Pageable pageable = PaginationUtil.toPageable(page, size, sort, PaginationUtil.DEPARTMENT_SORT_FIELDS);
         try {
-            List<Department> departments = departmentService.getAllDepartments();
-            List<DepartmentDTO> departmentDTOs = departments.stream()
-                    .map(department -> includeEmployees
-                            ? DepartmentDTO.fromEntity(department)
-                            : DepartmentDTO.fromEntitySimple(department))
-                    .collect(Collectors.toList());
-
-            String message = String.format("Retrieved %d departments", departmentDTOs.size());
-            return ResponseEntity.ok(ApiResponse.success(message, departmentDTOs));
+            Page<DepartmentDTO> departmentDTOs = includeEmployees
+                    ? departmentService.getAllDepartments(pageable).map(DepartmentDTO::fromEntity)
+                    : departmentService.getDepartmentSummaries(pageable);
+
+            String message = String.format("Retrieved %d departments", departmentDTOs.getTotalElements());
+            return ResponseEntity.ok(ApiResponse.paged(message, ApiResponse.PageResponse.from(departmentDTOs)));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("Failed to retrieve departments", e.getMessage()));
@@ -190,28 +194,89 @@ public class DepartmentController {
         }
     }
 
+    /**
+     * Move employees to another department in one statement
+     * POST /api/departments/{id}/move-employees?targetDepartmentId=2&status=ACTIVE&name=xxx
+     * @param id Department ID to move employees from
+     * @param targetDepartmentId Department ID to move employees to
+     * @param status optional, only move employees with this status
+     * @param name optional, only move employees whose first or last name contains it
+     * @return ApiResponse<Integer> number of employees moved
+     */
+    @PostMapping("/{id}/move-employees")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> moveEmployees(
+            @PathVariable Long id,
+            @RequestParam Long targetDepartmentId,
+            @RequestParam(required = false) Employee.EmployeeStatus status,
+            @RequestParam(required = false) String name) {
+        try {
+            int moved = departmentService.moveEmployees(id, targetDepartmentId, status,
+                    name == null || name.trim().isEmpty() ? null : name.trim());
+            String message = String.format("Moved %d employees from department %d to department %d", moved, id, targetDepartmentId);
+            return ResponseEntity.ok(ApiResponse.success(message, moved));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.validationError(e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error("Resource not found", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to move employees", e.getMessage()));
+        }
+    }
+
+    /**
+     * Merge a department into another, its employees are moved and the department is deleted
+     * POST /api/departments/{id}/merge-into/{targetId}
+     * @param id Department ID to merge and delete
+     * @param targetId Department ID that receives the employees
+     * @return ApiResponse<Integer> number of employees moved
+     */
+    @PostMapping("/{id}/merge-into/{targetId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> mergeDepartment(@PathVariable Long id, @PathVariable Long targetId) {
+        try {
+            int moved = departmentService.mergeDepartment(id, targetId);
+            String message = String.format("Department %d merged into department %d, moved %d employees", id, targetId, moved);
+            return ResponseEntity.ok(ApiResponse.success(message, moved));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.validationError(e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error("Resource not found", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to merge departments", e.getMessage()));
+        }
+    }
+
     /**
      * Search departments by name
-     * GET /api/departments/search/name?name=xxx
+     * GET /api/departments/search/name?name=xxx&page=0&size=20
      * @param name Department name search term
-     * @return ApiResponse<List<DepartmentDTO>>
+     * @return ApiResponse<PageResponse<DepartmentDTO>>
      */
     @GetMapping("/search/name")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<DepartmentDTO>>> searchDepartmentsByName(@RequestParam String name) {
+    public ResponseEntity<ApiResponse<ApiResponse.PageResponse<DepartmentDTO>>> searchDepartmentsByName(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort) {
+        Pageable pageable = PaginationUtil.toPageable(page, size, sort, PaginationUtil.DEPARTMENT_SORT_FIELDS);
         try {
             if (name == null || name.trim().isEmpty()) {
                 return ResponseEntity.badRequest()
                         .body(ApiResponse.validationError("Search name cannot be empty"));
             }
 
-            List<Department> departments = departmentService.searchDepartmentsByName(name.trim());
-            List<DepartmentDTO> departmentDTOs = departments.stream()
-                    .map(DepartmentDTO::fromEntitySimple)
-                    .collect(Collectors.toList());
+            Page<DepartmentDTO> departmentDTOs = departmentService.searchDepartmentsByName(name.trim(), pageable);
 
-            String message = String.format("Found %d departments matching name '%s'", departmentDTOs.size(), name);
-            return ResponseEntity.ok(ApiResponse.success(message, departmentDTOs));
+            String message = String.format("Found %d departments matching name '%s'", departmentDTOs.getTotalElements(), name);
+            return ResponseEntity.ok(ApiResponse.paged(message, ApiResponse.PageResponse.from(departmentDTOs)));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("Failed to search departments by name", e.getMessage()));
@@ -220,26 +285,28 @@ public class DepartmentController {
 
     /**
      * Search departments by location
-     * GET /api/departments/search/location?location=xxx
+     * GET /api/departments/search/location?location=xxx&page=0&size=20
      * @param location Department location search term
-     * @return ApiResponse<List<DepartmentDTO>>
+     * @return ApiResponse<PageResponse<DepartmentDTO>>
      */
     @GetMapping("/search/location")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<DepartmentDTO>>> searchDepartmentsByLocation(@RequestParam String location) {
+    public ResponseEntity<ApiResponse<ApiResponse.PageResponse<DepartmentDTO>>> searchDepartmentsByLocation(
+            @RequestParam String location,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort) {
+        Pageable pageable = PaginationUtil.toPageable(page, size, sort, PaginationUtil.DEPARTMENT_SORT_FIELDS);
         try {
             if (location == null || location.trim().isEmpty()) {
                 return ResponseEntity.badRequest()
                         .body(ApiResponse.validationError("Search location cannot be empty"));
             }
 
-            List<Department> departments = departmentService.searchDepartmentsByLocation(location.trim());
-            List<DepartmentDTO> departmentDTOs = departments.stream()
-                    .map(DepartmentDTO::fromEntitySimple)
-                    .collect(Collectors.toList());
+            Page<DepartmentDTO> departmentDTOs = departmentService.searchDepartmentsByLocation(location.trim(), pageable);
 
-            String message = String.format("Found %d departments in location '%s'", departmentDTOs.size(), location);
-            return ResponseEntity.ok(ApiResponse.success(message, departmentDTOs));
+            String message = String.format("Found %d departments in location '%s'", departmentDTOs.getTotalElements(), location);
+            return ResponseEntity.ok(ApiResponse.paged(message, ApiResponse.PageResponse.from(departmentDTOs)));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("Failed to search departments by location", e.getMessage()));
@@ -248,26 +315,28 @@ public class DepartmentController {
 
     /**
      * Search departments by manager's name
-     * GET /api/departments/search/manager?manager=xxx
+     * GET /api/departments/search/manager?manager=xxx&page=0&size=20
      * @param manager Manager name search term
-     * @return ApiResponse<List<DepartmentDTO>>
+     * @return ApiResponse<PageResponse<DepartmentDTO>>
      */
     @GetMapping("/search/manager")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<DepartmentDTO>>> searchDepartmentsByManager(@RequestParam String manager) {
+    public ResponseEntity<ApiResponse<ApiResponse.PageResponse<DepartmentDTO>>> searchDepartmentsByManager(
+            @RequestParam String manager,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort) {
+        Pageable pageable = PaginationUtil.toPageable(page, size, sort, PaginationUtil.DEPARTMENT_SORT_FIELDS);
         try {
             if (manager == null || manager.trim().isEmpty()) {
                 return ResponseEntity.badRequest()
                         .body(ApiResponse.validationError("Search manager name cannot be empty"));
             }
 
-            List<Department> departments = departmentService.searchDepartmentsByManager(manager.trim());
-            List<DepartmentDTO> departmentDTOs = departments.stream()
-                    .map(DepartmentDTO::fromEntitySimple)
-                    .collect(Collectors.toList());
+            Page<DepartmentDTO> departmentDTOs = departmentService.searchDepartmentsByManager(manager.trim(), pageable);
 
-            String message = String.format("Found %d departments with manager '%s'", departmentDTOs.size(), manager);
-            return ResponseEntity.ok(ApiResponse.success(message, departmentDTOs));
+            String message = String.format("Found %d departments with manager '%s'", departmentDTOs.getTotalElements(), manager);
+            return ResponseEntity.ok(ApiResponse.paged(message, ApiResponse.PageResponse.from(departmentDTOs)));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("Failed to search departments by manager", e.getMessage()));
@@ -277,19 +346,20 @@ public class DepartmentController {
     /**
      * Get all departments that have employees
      * GET /api/departments/with-employees
-     * @return ApiResponse<List<DepartmentDTO>>
+     * @return ApiResponse<PageResponse<DepartmentDTO>>
      */
     @GetMapping("/with-employees")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<DepartmentDTO>>> getDepartmentsWithEmployees() {
+    public ResponseEntity<ApiResponse<ApiResponse.PageResponse<DepartmentDTO>>> getDepartmentsWithEmployees(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort) {
+        Pageable pageable = PaginationUtil.toPageable(page, size, sort, PaginationUtil.DEPARTMENT_SORT_FIELDS);
         try {
-            List<Department> departments = departmentService.getDepartmentsWithEmployees();
-            List<DepartmentDTO> departmentDTOs = departments.stream()
-                    .map(DepartmentDTO::fromEntitySimple)
-                    .collect(Collectors.toList());
+            Page<DepartmentDTO> departmentDTOs = departmentService.getDepartmentsWithEmployees(pageable);
 
-            String message = String.format("Found %d departments with employees", departmentDTOs.size());
-            return ResponseEntity.ok(ApiResponse.success(message, departmentDTOs));
+            String message = String.format("Found %d departments with employees", departmentDTOs.getTotalElements());
+            return ResponseEntity.ok(ApiResponse.paged(message, ApiResponse.PageResponse.from(departmentDTOs)));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("Failed to retrieve departments with employees", e.getMessage()));
@@ -299,19 +369,20 @@ public class DepartmentController {
     /**
      * Get all departments that don't have employees
      * GET /api/departments/empty
-     * @return ApiResponse<List<DepartmentDTO>>
+     * @return ApiResponse<PageResponse<DepartmentDTO>>
      */
     @GetMapping("/empty")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<DepartmentDTO>>> getEmptyDepartments() {
+    public ResponseEntity<ApiResponse<ApiResponse.PageResponse<DepartmentDTO>>> getEmptyDepartments(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort) {
+        Pageable pageable = PaginationUtil.toPageable(page, size, sort, PaginationUtil.DEPARTMENT_SORT_FIELDS);
         try {
-            List<Department> departments = departmentService.getEmptyDepartments();
-            List<DepartmentDTO> departmentDTOs = departments.stream()
-                    .map(DepartmentDTO::fromEntitySimple)
-                    .collect(Collectors.toList());
+            Page<DepartmentDTO> departmentDTOs = departmentService.getEmptyDepartments(pageable);
 
-            String message = String.format("Found %d empty departments", departmentDTOs.size());
-            return ResponseEntity.ok(ApiResponse.success(message, departmentDTOs));
+            String message = String.format("Found %d empty departments", departmentDTOs.getTotalElements());
+            return ResponseEntity.ok(ApiResponse.paged(message, ApiResponse.PageResponse.from(departmentDTOs)));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("Failed to retrieve empty departments", e.getMessage()));
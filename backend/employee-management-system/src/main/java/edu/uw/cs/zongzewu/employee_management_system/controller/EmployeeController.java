@@ -2,19 +2,34 @@ package edu.uw.cs.zongzewu.employee_management_system.controller;
 
 
 import edu.uw.cs.zongzewu.employee_management_system.dto.ApiResponse;
+import edu.uw.cs.zongzewu.employee_management_system.dto.BulkStatusUpdateRequest;
 import edu.uw.cs.zongzewu.employee_management_system.dto.CreateEmployeeRequest;
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeBatchResult;
 import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeDTO;
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeFilter;
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeImportResult;
 import edu.uw.cs.zongzewu.employee_management_system.dto.UpdateEmployeeRequest;
 import edu.uw.cs.zongzewu.employee_management_system.entity.Employee;
+import edu.uw.cs.zongzewu.employee_management_system.service.EmployeeExportService;
+import edu.uw.cs.zongzewu.employee_management_system.service.EmployeeImportService;
 import edu.uw.cs.zongzewu.employee_management_system.service.EmployeeService;
+import edu.uw.cs.zongzewu.employee_management_system.util.KeysetCursor;
+import edu.uw.cs.zongzewu.employee_management_system.util.PaginationUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -25,20 +40,33 @@ import java.util.stream.Collectors;
 //@CrossOrigin(origins = "http://localhost:3000")
 public class EmployeeController {
     private final EmployeeService employeeService;
+    private final EmployeeExportService employeeExportService;
+    private final EmployeeImportService employeeImportService;
 
     /**
      * Get all employees
-     * GET /api/employees
-     * @return List of EmployeeDTO
+     * GET /api/employees?page=0&size=20&sort=lastName,asc
+     * GET /api/employees?cursor=&size=20&sort=lastName for keyset pagination,
+     * pass the returned nextCursor to get the following page
+     * @param page zero based page number
+     * @param size page size, capped at PaginationUtil.MAX_PAGE_SIZE
+     * @param sort "field" or "field,asc|desc"
+     * @param cursor empty for the first keyset page, otherwise a nextCursor from a previous response
+     * @return Page of EmployeeDTO, or CursorResponse of EmployeeDTO in cursor mode
      */
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
-    public ResponseEntity<ApiResponse<List<EmployeeDTO>>> getAllEmployees() {
-        List<Employee> employees = employeeService.getAllEmployees();
-        List<EmployeeDTO> employeeDTOs = employees.stream()
-                .map(EmployeeDTO::fromEntity)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(ApiResponse.success(employeeDTOs));
+    public ResponseEntity<ApiResponse<?>> getAllEmployees(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            return scroll(EmployeeFilter.all(), cursor, sort, size);
+        }
+        Pageable pageable = PaginationUtil.toPageable(page, size, sort, PaginationUtil.EMPLOYEE_SORT_FIELDS);
+        Page<EmployeeDTO> employeeDTOs = employeeService.getAllEmployees(pageable);
+        return ResponseEntity.ok(ApiResponse.paged(ApiResponse.PageResponse.from(employeeDTOs)));
     }
 
     /**
@@ -103,6 +131,31 @@ public class EmployeeController {
         }
     }
 
+    /**
+     * Create many employees in one request
+     * POST /api/employees/batch with a JSON array of CreateEmployeeRequest
+     * items are validated one by one, invalid items are listed in errors by index and the rest are created
+     * @param createRequests array of CreateEmployeeRequest, at most app.batch.max-size items
+     * @return ApiResponse<EmployeeBatchResult>, 201 if every item was created, 207 if some failed
+     */
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<EmployeeBatchResult>> createEmployees(
+            @RequestBody List<CreateEmployeeRequest> createRequests) {
+        try {
+            EmployeeBatchResult result = employeeService.createEmployees(createRequests);
+            String message = String.format("Created %d of %d employees", result.getCreatedItems(), result.getTotalItems());
+            HttpStatus status = result.getErrors().isEmpty() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+            return ResponseEntity.status(status).body(ApiResponse.success(message, result));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.validationError(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to create employees", e.getMessage()));
+        }
+    }
+
     /**
      * update employee info with id
      * PUT /api/employees/{id}
@@ -161,18 +214,25 @@ public class EmployeeController {
 
     /**
      * get employees by department id
-     * GET /api/employees/department/{departmentId}
+     * GET /api/employees/department/{departmentId}?page=0&size=20&sort=lastName
+     * GET /api/employees/department/{departmentId}?cursor=&size=20 for keyset pagination
      */
     @GetMapping("/department/{departmentId}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
-    public  ResponseEntity<ApiResponse<List<EmployeeDTO>>> getEmployeesByDepartment(@PathVariable Long departmentId) {
+    public  ResponseEntity<ApiResponse<?>> getEmployeesByDepartment(
+            @PathVariable Long departmentId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            return scroll(EmployeeFilter.byDepartment(departmentId), cursor, sort, size);
+        }
+        Pageable pageable = PaginationUtil.toPageable(page, size, sort, PaginationUtil.EMPLOYEE_SORT_FIELDS);
         try {
-            List<Employee> employees = employeeService.getEmployeesByDepartment(departmentId);
-            List<EmployeeDTO> employeeDTOS = employees.stream()
-                    .map(EmployeeDTO::fromEntity)
-                    .collect(Collectors.toList());
-            String message = String.format("Found %d employees in department %d", employeeDTOS.size(), departmentId);
-            return ResponseEntity.ok(ApiResponse.success(message, employeeDTOS));
+            Page<EmployeeDTO> employeeDTOS = employeeService.getEmployeesByDepartment(departmentId, pageable);
+            String message = String.format("Found %d employees in department %d", employeeDTOS.getTotalElements(), departmentId);
+            return ResponseEntity.ok(ApiResponse.paged(message, ApiResponse.PageResponse.from(employeeDTOS)));
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(ApiResponse.notFound("Department with ID " + departmentId));
@@ -184,19 +244,26 @@ public class EmployeeController {
 
     /**
      * get employee status
-     * GET /api/employees/status/{status}
+     * GET /api/employees/status/{status}?page=0&size=20&sort=lastName
+     * GET /api/employees/status/{status}?cursor=&size=20 for keyset pagination
      */
     @GetMapping("/status/{status}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
-    public ResponseEntity<ApiResponse<List<EmployeeDTO>>> getEmployeesByStatus(@PathVariable Employee.EmployeeStatus status) {
+    public ResponseEntity<ApiResponse<?>> getEmployeesByStatus(
+            @PathVariable Employee.EmployeeStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            return scroll(EmployeeFilter.byStatus(status), cursor, sort, size);
+        }
+        Pageable pageable = PaginationUtil.toPageable(page, size, sort, PaginationUtil.EMPLOYEE_SORT_FIELDS);
         try {
-            List<Employee> employees = employeeService.getEmployeesByStatus(status);
-            List<EmployeeDTO> employeeDTOs = employees.stream()
-                    .map(EmployeeDTO::fromEntity)
-                    .collect(Collectors.toList());
+            Page<EmployeeDTO> employeeDTOs = employeeService.getEmployeesByStatus(status, pageable);
 
-            String message = String.format("Found %d employees with status %s", employeeDTOs.size(), status);
-            return ResponseEntity.ok(ApiResponse.success(message, employeeDTOs));
+            String message = String.format("Found %d employees with status %s", employeeDTOs.getTotalElements(), status);
+            return ResponseEntity.ok(ApiResponse.paged(message, ApiResponse.PageResponse.from(employeeDTOs)));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("Failed to retrieve employees by status", e.getMessage()));
@@ -206,32 +273,94 @@ public class EmployeeController {
 
     /**
      * Search employee by name
-     * GET /api/employees/search?name=xxx
+     * GET /api/employees/search?name=xxx&page=0&size=20&sort=lastName
+     * GET /api/employees/search?name=xxx&cursor=&size=20 for keyset pagination
      * @param name Search term for employee name
-     * @return ApiResponse<List<EmployeeDTO>>
+     * @return ApiResponse<PageResponse<EmployeeDTO>>, or ApiResponse<CursorResponse<EmployeeDTO>> in cursor mode
      */
     @GetMapping("/search")
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
-    public ResponseEntity<ApiResponse<List<EmployeeDTO>>> searchEmployees(@RequestParam String name) {
+    public ResponseEntity<ApiResponse<?>> searchEmployees(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor) {
+        if (name == null || name.trim().isEmpty()) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.validationError("Search name cannot be empty"));
+        }
+        if (cursor != null) {
+            return scroll(EmployeeFilter.byName(name.trim()), cursor, sort, size);
+        }
+        Pageable pageable = PaginationUtil.toPageable(page, size, sort, PaginationUtil.EMPLOYEE_SORT_FIELDS);
         try {
-            if (name == null || name.trim().isEmpty()) {
-                return ResponseEntity.badRequest()
-                        .body(ApiResponse.validationError("Search name cannot be empty"));
-            }
 
-            List<Employee> employees = employeeService.searchEmployeesByName(name.trim());
-            List<EmployeeDTO> employeeDTOs = employees.stream()
-                    .map(EmployeeDTO::fromEntity)
-                    .collect(Collectors.toList());
+            Page<EmployeeDTO> employeeDTOs = employeeService.searchEmployeesByName(name.trim(), pageable);
 
-            String message = String.format("Found %d employees matching '%s'", employeeDTOs.size(), name);
-            return ResponseEntity.ok(ApiResponse.success(message, employeeDTOs));
+            String message = String.format("Found %d employees matching '%s'", employeeDTOs.getTotalElements(), name);
+            return ResponseEntity.ok(ApiResponse.paged(message, ApiResponse.PageResponse.from(employeeDTOs)));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("Failed to search employees", e.getMessage()));
         }
     }
 
+    /**
+     * Export employees for downstream systems, rows are streamed so the whole table is never in memory
+     * GET /api/employees/export?format=ndjson|csv&status=ACTIVE&departmentId=1&name=xxx
+     * @param format ndjson (default) or csv
+     * @param status optional status filter
+     * @param departmentId optional department filter
+     * @param name optional first or last name substring
+     * @return streamed NDJSON or CSV attachment
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) Employee.EmployeeStatus status,
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) String name) {
+        EmployeeExportService.Format exportFormat = EmployeeExportService.Format.from(format);
+        EmployeeFilter filter = new EmployeeFilter(status, departmentId,
+                name == null || name.trim().isEmpty() ? null : name.trim());
+
+        StreamingResponseBody body = out -> employeeExportService.export(filter, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    /**
+     * Bulk import employees from a CSV file
+     * POST /api/employees/import (multipart, part name "file")
+     * header: firstName,lastName,email,phone,position,salary,hireDate,status,department
+     * valid rows are imported, invalid rows and existing emails are listed in errors by row number
+     * @param file CSV file, UTF-8
+     * @return ApiResponse<EmployeeImportResult>
+     */
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<EmployeeImportResult>> importEmployees(@RequestParam("file") MultipartFile file) {
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.validationError("Import file cannot be empty"));
+        }
+        try (InputStream csv = file.getInputStream()) {
+            EmployeeImportResult result = employeeImportService.importCsv(csv);
+            String message = String.format("Imported %d of %d rows", result.getImportedRows(), result.getTotalRows());
+            return ResponseEntity.ok(ApiResponse.success(message, result));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.validationError(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to import employees", e.getMessage()));
+        }
+    }
+
     /**
      * Update employee status
      * PATCH /api/employees/{id}/status
@@ -264,6 +393,88 @@ public class EmployeeController {
         }
     }
 
+    /**
+     * Update the status of many employees in one statement
+     * PATCH /api/employees/status with {"ids": [1, 2, 3], "status": "TERMINATED"}
+     * @param updateRequest ids and new status
+     * @return ApiResponse<Integer> number of employees whose status changed
+     */
+    @PatchMapping("/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> updateEmployeesStatus(
+            @Valid @RequestBody BulkStatusUpdateRequest updateRequest,
+            BindingResult bindingResult) {
+        if (bindingResult.hasErrors()) {
+            String errorMessage = bindingResult.getFieldErrors().stream()
+                    .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                    .collect(Collectors.joining(", "));
+            return ResponseEntity.badRequest().body(ApiResponse.validationError(errorMessage));
+        }
+        try {
+            int updated = employeeService.updateEmployeeStatus(updateRequest.getIds(), updateRequest.getStatus());
+            String message = String.format("Employee status updated to %s for %d employees", updateRequest.getStatus(), updated);
+            return ResponseEntity.ok(ApiResponse.success(message, updated));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.validationError(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to update employee status", e.getMessage()));
+        }
+    }
+
+    /**
+     * Update the status of every employee matching the filter in one statement
+     * PATCH /api/employees/status/filter?status=INACTIVE&currentStatus=ACTIVE&departmentId=1&name=xxx
+     * @param status new status
+     * @param currentStatus optional current status filter
+     * @param departmentId optional department filter
+     * @param name optional first or last name substring
+     * @return ApiResponse<Integer> number of employees whose status changed
+     */
+    @PatchMapping("/status/filter")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> updateEmployeesStatusByFilter(
+            @RequestParam Employee.EmployeeStatus status,
+            @RequestParam(required = false) Employee.EmployeeStatus currentStatus,
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) String name) {
+        EmployeeFilter filter = new EmployeeFilter(currentStatus, departmentId,
+                name == null || name.trim().isEmpty() ? null : name.trim());
+        try {
+            int updated = employeeService.updateEmployeeStatus(filter, status);
+            String message = String.format("Employee status updated to %s for %d employees", status, updated);
+            return ResponseEntity.ok(ApiResponse.success(message, updated));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.validationError(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to update employee status", e.getMessage()));
+        }
+    }
+
+    /**
+     * Delete many employees in one statement
+     * DELETE /api/employees?ids=1,2,3
+     * @param ids employee ids
+     * @return ApiResponse<Integer> number of employees deleted
+     */
+    @DeleteMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> deleteEmployees(@RequestParam List<Long> ids) {
+        try {
+            int deleted = employeeService.deleteEmployees(ids);
+            return ResponseEntity.ok(ApiResponse.success(String.format("Deleted %d employees", deleted), deleted));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.validationError(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to delete employees", e.getMessage()));
+        }
+    }
+
     /**
      * Get the number of employees in the department
      * GET /api/employees/count/department/{departmentId}
@@ -285,4 +496,23 @@ public class EmployeeController {
                     .body(ApiResponse.error("Failed to count employees", e.getMessage()));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * cursor mode shared by the list endpoints, an empty cursor starts at the first page
+     * the sort is carried inside the cursor, so sort is only read for the first page
+     * invalid cursor or sort ends up as 400 in GlobalExceptionHandler
+     */
+    private ResponseEntity<ApiResponse<?>> scroll(EmployeeFilter filter, String cursor, String sort, int size) {
+        KeysetCursor position = cursor.isBlank() ? KeysetCursor.first(sort) : KeysetCursor.decode(cursor);
+        Slice<EmployeeDTO> slice = employeeService.scrollEmployees(filter, position, PaginationUtil.capPageSize(size));
+
+        List<EmployeeDTO> employeeDTOs = slice.getContent();
+        String nextCursor = slice.hasNext()
+                ? position.next(employeeDTOs.get(employeeDTOs.size() - 1)).encode()
+                : null;
+
+        String message = String.format("Returned %d employees", employeeDTOs.size());
+        return ResponseEntity.ok(ApiResponse.cursor(message,
+                new ApiResponse.CursorResponse<>(employeeDTOs, slice.getSize(), nextCursor, slice.hasNext())));
+    }
+}
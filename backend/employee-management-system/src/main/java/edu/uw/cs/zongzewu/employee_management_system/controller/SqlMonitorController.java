@@ -0,0 +1,50 @@
+package edu.uw.cs.zongzewu.employee_management_system.controller;
+
+import edu.uw.cs.zongzewu.employee_management_system.config.SqlMonitor;
+import edu.uw.cs.zongzewu.employee_management_system.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/sql-monitor")
+@RequiredArgsConstructor
+@Tag(name = "SQL Monitor", description = "Statement counts per endpoint, N+1 and slow query reports")
+@SecurityRequirement(name = "Bearer Authentication")
+public class SqlMonitorController {
+
+    private final SqlMonitor sqlMonitor;
+
+    /**
+     * Statement totals per controller method and the latest N+1/slow statement findings
+     * GET /api/admin/sql-monitor
+     * @return ApiResponse<SqlMonitor.Report>
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get SQL monitor report",
+            description = "Per endpoint statement counts and the latest N+1 / slow statements, newest first")
+    public ResponseEntity<ApiResponse<SqlMonitor.Report>> getReport() {
+        return ResponseEntity.ok(ApiResponse.success("SQL monitor report", sqlMonitor.getReport()));
+    }
+
+    /**
+     * Clear the totals and findings
+     * DELETE /api/admin/sql-monitor
+     * @return ApiResponse<Void>
+     */
+    @DeleteMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Reset SQL monitor", description = "Clear the per endpoint totals and findings")
+    public ResponseEntity<ApiResponse<Void>> reset() {
+        sqlMonitor.reset();
+        return ResponseEntity.ok(ApiResponse.success("SQL monitor reset"));
+    }
+}
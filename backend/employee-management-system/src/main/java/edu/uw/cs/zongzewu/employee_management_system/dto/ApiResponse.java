@@ -150,6 +150,13 @@ public class ApiResponse<T> {
         return new ApiResponse<>(true, "Success", pageData, null);
     }
 
+    /**
+     * paged success with message
+     */
+    public static <T> ApiResponse<PageResponse<T>> paged(String message, PageResponse<T> pageData) {
+        return new ApiResponse<>(true, message, pageData, null);
+    }
+
     /**
      * page response data structure
      */
@@ -180,4 +187,25 @@ public class ApiResponse<T> {
             );
         }
     }
+
+    /**
+     * cursor success with message
+     */
+    public static <T> ApiResponse<CursorResponse<T>> cursor(String message, CursorResponse<T> cursorData) {
+        return new ApiResponse<>(true, message, cursorData, null);
+    }
+
+    /**
+     * keyset page data structure, no total count is computed
+     * nextCursor is null on the last page
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CursorResponse<T> {
+        private List<T> content;
+        private int size;
+        private String nextCursor;
+        private boolean hasNext;
+    }
 }
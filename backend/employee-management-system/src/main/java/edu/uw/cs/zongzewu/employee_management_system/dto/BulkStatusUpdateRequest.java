@@ -0,0 +1,24 @@
+package edu.uw.cs.zongzewu.employee_management_system.dto;
+
+import edu.uw.cs.zongzewu.employee_management_system.entity.Employee;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for PATCH /api/employees/status, sets one status on many employees
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateRequest {
+    @NotEmpty(message = "Employee ids are required")
+    private List<@NotNull(message = "Employee id cannot be null") Long> ids;
+
+    @NotNull(message = "Status is required")
+    private Employee.EmployeeStatus status;
+}
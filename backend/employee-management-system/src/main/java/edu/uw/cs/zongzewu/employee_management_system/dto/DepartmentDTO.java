@@ -86,6 +86,24 @@ public class DepartmentDTO {
         return dto;
     }
 
+    /**
+     * constructor for JPQL projections, see DepartmentRepository.DEPARTMENT_DTO_SELECT
+     * counts are aggregated in the database, employees are not loaded
+     */
+    public DepartmentDTO(Long id, String name, String description, String location, String managerName,
+                         LocalDateTime createdAt, LocalDateTime updatedAt,
+                         Long employeeCount, Long activeEmployeeCount) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.location = location;
+        this.managerName = managerName;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.employeeCount = employeeCount.intValue();
+        this.activeEmployeeCount = activeEmployeeCount.intValue();
+    }
+
     public boolean isEmpty() {
         return employeeCount == null || employeeCount == 0;
     }
@@ -0,0 +1,42 @@
+package edu.uw.cs.zongzewu.employee_management_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of POST /api/employees/batch
+ * errors refer to items by their zero based index in the request array
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBatchResult {
+    private int totalItems;
+    private List<EmployeeDTO> created = new ArrayList<>();
+    private List<ItemError> errors = new ArrayList<>();
+
+    public int getCreatedItems() {
+        return created.size();
+    }
+
+    public int getFailedItems() {
+        return errors.size();
+    }
+
+    public void addError(int index, String email, String error) {
+        errors.add(new ItemError(index, email, error));
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemError {
+        private int index;
+        private String email;
+        private String error;
+    }
+}
@@ -34,6 +34,30 @@ public class EmployeeDTO {
     // simplified, no sensitive info version of Department
     private DepartmentSummaryDTO department;
 
+    /**
+     * constructor for JPQL projections, see EmployeeRepository.EMPLOYEE_DTO_SELECT
+     * department columns are null when the employee has no department
+     */
+    public EmployeeDTO(Long id, String firstName, String lastName, String email, String phone,
+                       String position, BigDecimal salary, LocalDate hireDate, Employee.EmployeeStatus status,
+                       LocalDateTime createdAt, LocalDateTime updatedAt, Long departmentId,
+                       String departmentName, String departmentLocation, String departmentManagerName) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.phone = phone;
+        this.position = position;
+        this.salary = salary;
+        this.hireDate = hireDate;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        if (departmentId != null) {
+            this.department = new DepartmentSummaryDTO(departmentId, departmentName, departmentLocation, departmentManagerName);
+        }
+    }
+
     /**
      * From entity to DTO
      */
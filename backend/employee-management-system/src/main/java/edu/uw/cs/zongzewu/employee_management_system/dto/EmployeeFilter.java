@@ -0,0 +1,42 @@
+package edu.uw.cs.zongzewu.employee_management_system.dto;
+
+import edu.uw.cs.zongzewu.employee_management_system.entity.Employee;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Filter criteria shared by the employee list endpoints
+ * null fields are not applied
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeFilter {
+    private Employee.EmployeeStatus status;
+    private Long departmentId;
+    private String name; // substring of first or last name
+
+    public static EmployeeFilter all() {
+        return new EmployeeFilter();
+    }
+
+    public static EmployeeFilter byStatus(Employee.EmployeeStatus status) {
+        return new EmployeeFilter(status, null, null);
+    }
+
+    public static EmployeeFilter byDepartment(Long departmentId) {
+        return new EmployeeFilter(null, departmentId, null);
+    }
+
+    public static EmployeeFilter byName(String name) {
+        return new EmployeeFilter(null, null, name);
+    }
+
+    /**
+     * true when no criteria is set, i.e. the filter matches every employee
+     */
+    public boolean isEmpty() {
+        return status == null && departmentId == null && name == null;
+    }
+}
@@ -0,0 +1,38 @@
+package edu.uw.cs.zongzewu.employee_management_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of a CSV bulk import
+ * rows are numbered from 1, the header is not counted
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeImportResult {
+    private int totalRows;
+    private int importedRows;
+    private List<RowError> errors = new ArrayList<>();
+
+    public int getFailedRows() {
+        return errors.size();
+    }
+
+    public void addError(long row, String email, String error) {
+        errors.add(new RowError(row, email, error));
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long row;
+        private String email;
+        private String error;
+    }
+}
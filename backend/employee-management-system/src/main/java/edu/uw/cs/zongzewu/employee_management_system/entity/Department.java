@@ -3,7 +3,10 @@ package edu.uw.cs.zongzewu.employee_management_system.entity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import edu.uw.cs.zongzewu.employee_management_system.config.HibernateCacheConfig;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -13,12 +16,17 @@ import java.util.List;
 
 @Entity
 @Table(name = "departments")
+// read on every employee write, changes rarely, see HibernateCacheConfig
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.DEPARTMENT_REGION)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Department {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // pooled sequence instead of IDENTITY so Hibernate can batch inserts, 50 ids per round trip
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "departments_seq")
+    @SequenceGenerator(name = "departments_seq", sequenceName = "departments_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false, length = 100)
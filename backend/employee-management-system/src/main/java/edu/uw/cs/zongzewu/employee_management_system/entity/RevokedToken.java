@@ -0,0 +1,31 @@
+package edu.uw.cs.zongzewu.employee_management_system.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A token revoked before it expired, by its jti claim.
+ * Rows are only needed until expires_at, after that the token is rejected by its own expiration
+ */
+@Entity
+@Table(name = "revoked_tokens")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken {
+
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // nodes poll for rows revoked since their last sync
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+}
@@ -1,5 +1,6 @@
 package edu.uw.cs.zongzewu.employee_management_system.entity;
 
+import edu.uw.cs.zongzewu.employee_management_system.service.UserStateListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -16,6 +17,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserStateListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
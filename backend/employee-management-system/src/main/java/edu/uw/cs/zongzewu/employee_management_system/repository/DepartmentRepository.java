@@ -1,27 +1,71 @@
 package edu.uw.cs.zongzewu.employee_management_system.repository;
 
+import edu.uw.cs.zongzewu.employee_management_system.config.HibernateCacheConfig;
+import edu.uw.cs.zongzewu.employee_management_system.dto.DepartmentDTO;
 import edu.uw.cs.zongzewu.employee_management_system.entity.Department;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-import java.util.List;
 import java.util.Optional;
 
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
 
+    /**
+     * Selects departments straight into DepartmentDTO with all and ACTIVE employee counts
+     * grouped in SQL, no Department or Employee entity is loaded
+     */
+    String DEPARTMENT_DTO_SELECT = "SELECT new edu.uw.cs.zongzewu.employee_management_system.dto.DepartmentDTO("
+            + "d.id, d.name, d.description, d.location, d.managerName, d.createdAt, d.updatedAt, "
+            + "COUNT(e), COUNT(e) FILTER (WHERE e.status = "
+            + "edu.uw.cs.zongzewu.employee_management_system.entity.Employee.EmployeeStatus.ACTIVE)) "
+            + "FROM Department d LEFT JOIN d.employees e ";
+
+    String DEPARTMENT_DTO_GROUP_BY = " GROUP BY d.id, d.name, d.description, d.location, d.managerName, "
+            + "d.createdAt, d.updatedAt";
+
+    /**
+     * served from the query cache, the result is the department id so the entity itself comes from the entity cache,
+     * any write to departments through Hibernate invalidates it
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = HibernateCacheConfig.DEPARTMENT_QUERY_REGION)
+    })
     Optional<Department> findByName(String name);
 
-    List<Department> findByNameContainingIgnoreCase(String name);
+    @Query(value = DEPARTMENT_DTO_SELECT + DEPARTMENT_DTO_GROUP_BY,
+            countQuery = "SELECT COUNT(d) FROM Department d")
+    Page<DepartmentDTO> findDepartmentDTOs(Pageable pageable);
+
+    @Query(value = DEPARTMENT_DTO_SELECT
+            + "WHERE LOWER(d.name) LIKE LOWER(CONCAT('%', :name, '%'))" + DEPARTMENT_DTO_GROUP_BY,
+            countQuery = "SELECT COUNT(d) FROM Department d WHERE LOWER(d.name) LIKE LOWER(CONCAT('%', :name, '%'))")
+    Page<DepartmentDTO> findDepartmentDTOsByNameContaining(@Param("name") String name, Pageable pageable);
 
-    List<Department> findByLocationContainingIgnoreCase(String location);
+    @Query(value = DEPARTMENT_DTO_SELECT
+            + "WHERE LOWER(d.location) LIKE LOWER(CONCAT('%', :location, '%'))" + DEPARTMENT_DTO_GROUP_BY,
+            countQuery = "SELECT COUNT(d) FROM Department d WHERE LOWER(d.location) LIKE LOWER(CONCAT('%', :location, '%'))")
+    Page<DepartmentDTO> findDepartmentDTOsByLocationContaining(@Param("location") String location, Pageable pageable);
 
-    List<Department> findByManagerNameContainingIgnoreCase(String managerName);
+    @Query(value = DEPARTMENT_DTO_SELECT
+            + "WHERE LOWER(d.managerName) LIKE LOWER(CONCAT('%', :managerName, '%'))" + DEPARTMENT_DTO_GROUP_BY,
+            countQuery = "SELECT COUNT(d) FROM Department d WHERE LOWER(d.managerName) LIKE LOWER(CONCAT('%', :managerName, '%'))")
+    Page<DepartmentDTO> findDepartmentDTOsByManagerNameContaining(@Param("managerName") String managerName, Pageable pageable);
 
-    @Query("SELECT DISTINCT d FROM Department d WHERE SIZE(d.employees) > 0")
-    List<Department> findDepartmentsWithEmployees();
+    @Query(value = DEPARTMENT_DTO_SELECT + DEPARTMENT_DTO_GROUP_BY + " HAVING COUNT(e) > 0",
+            countQuery = "SELECT COUNT(d) FROM Department d WHERE SIZE(d.employees) > 0")
+    Page<DepartmentDTO> findDepartmentDTOsWithEmployees(Pageable pageable);
 
-    @Query("SELECT d FROM Department d WHERE SIZE(d.employees) = 0")
-    List<Department> findEmptyDepartments();
+    @Query(value = DEPARTMENT_DTO_SELECT + DEPARTMENT_DTO_GROUP_BY + " HAVING COUNT(e) = 0",
+            countQuery = "SELECT COUNT(d) FROM Department d WHERE SIZE(d.employees) = 0")
+    Page<DepartmentDTO> findEmptyDepartmentDTOs(Pageable pageable);
 
     /**
      * Check if department name exists for departments other than the specified ID
@@ -31,4 +75,11 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
      */
     boolean existsByNameAndIdNot(String name, Long id);
 
+    /**
+     * delete in one statement without loading the department and its employees collection,
+     * the department must already be empty
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Department d WHERE d.id = :id")
+    int deleteWithoutLoading(@Param("id") Long id);
 }
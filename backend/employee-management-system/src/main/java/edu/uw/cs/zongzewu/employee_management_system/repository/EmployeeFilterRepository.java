@@ -0,0 +1,57 @@
+package edu.uw.cs.zongzewu.employee_management_system.repository;
+
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeDTO;
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeFilter;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Department;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Employee;
+import edu.uw.cs.zongzewu.employee_management_system.util.KeysetCursor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Employee queries driven by an EmployeeFilter, mixed into EmployeeRepository
+ */
+public interface EmployeeFilterRepository {
+
+    /**
+     * Find the rows after the cursor position in (sortKey, id) order
+     * @param filter optional status/department/name criteria
+     * @param cursor sort key and position of the last row already returned
+     * @param limit max rows to return
+     * @return at most limit employees
+     */
+    List<EmployeeDTO> findKeysetPage(EmployeeFilter filter, KeysetCursor cursor, int limit);
+
+    /**
+     * Stream every matching row ordered by id, rows are fetched from the database
+     * fetchSize at a time instead of being loaded all at once.
+     * Must be consumed inside a transaction and closed by the caller
+     * @param filter optional status/department/name criteria
+     * @param fetchSize JDBC fetch size
+     * @return stream of employees
+     */
+    Stream<EmployeeDTO> streamByFilter(EmployeeFilter filter, int fetchSize);
+
+    /**
+     * Set the status of every matching employee in one UPDATE statement,
+     * rows already in that status are not touched.
+     * The persistence context is flushed before and cleared after
+     * @param filter status/department/name criteria, status is the current status
+     * @param status new status
+     * @param updatedAt value written to updated_at
+     * @return number of rows changed
+     */
+    int updateStatusByFilter(EmployeeFilter filter, Employee.EmployeeStatus status, LocalDateTime updatedAt);
+
+    /**
+     * Move every matching employee to another department in one UPDATE statement.
+     * The persistence context is flushed before and cleared after
+     * @param filter status/department/name criteria, departmentId is the source department
+     * @param target department to move to
+     * @param updatedAt value written to updated_at
+     * @return number of employees moved
+     */
+    int moveToDepartment(EmployeeFilter filter, Department target, LocalDateTime updatedAt);
+}
@@ -0,0 +1,133 @@
+package edu.uw.cs.zongzewu.employee_management_system.repository;
+
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeDTO;
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeFilter;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Department;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Employee;
+import edu.uw.cs.zongzewu.employee_management_system.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class EmployeeFilterRepositoryImpl implements EmployeeFilterRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<EmployeeDTO> findKeysetPage(EmployeeFilter filter, KeysetCursor cursor, int limit) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> params = new HashMap<>();
+        addFilterConditions(filter, conditions, params);
+
+        // sort field comes from the KeysetCursor whitelist so it is safe to inline
+        String field = "e." + cursor.getSortField();
+        boolean asc = cursor.getDirection() == Sort.Direction.ASC;
+        String gt = asc ? ">" : "<";
+        if (!cursor.isFirstPage()) {
+            if ("e.id".equals(field)) {
+                conditions.add("e.id " + gt + " :lastId");
+            } else {
+                // written so the leading range predicate can use an index on (field, id)
+                conditions.add(field + " " + gt + "= :lastValue AND ("
+                        + field + " " + gt + " :lastValue OR e.id " + gt + " :lastId)");
+                params.put("lastValue", cursor.getLastValue());
+            }
+            params.put("lastId", cursor.getLastId());
+        }
+
+        String dir = asc ? " ASC" : " DESC";
+        String orderBy = " ORDER BY " + field + dir + ("e.id".equals(field) ? "" : ", e.id" + dir);
+
+        TypedQuery<EmployeeDTO> query = createQuery(conditions, params, orderBy);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Stream<EmployeeDTO> streamByFilter(EmployeeFilter filter, int fetchSize) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> params = new HashMap<>();
+        addFilterConditions(filter, conditions, params);
+
+        // DTO rows are not managed, so the persistence context stays empty however many rows are read
+        return createQuery(conditions, params, " ORDER BY e.id ASC")
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    @Override
+    public int updateStatusByFilter(EmployeeFilter filter, Employee.EmployeeStatus status, LocalDateTime updatedAt) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> params = new HashMap<>();
+        addFilterConditions(filter, conditions, params);
+        conditions.add("(e.status IS NULL OR e.status <> :newStatus)");
+        params.put("newStatus", status);
+        return executeUpdate("e.status = :newStatus", conditions, params, updatedAt);
+    }
+
+    @Override
+    public int moveToDepartment(EmployeeFilter filter, Department target, LocalDateTime updatedAt) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> params = new HashMap<>();
+        addFilterConditions(filter, conditions, params);
+        params.put("target", target);
+        return executeUpdate("e.department = :target", conditions, params, updatedAt);
+    }
+
+    private int executeUpdate(String assignment, List<String> conditions, Map<String, Object> params,
+                              LocalDateTime updatedAt) {
+        StringBuilder jpql = new StringBuilder("UPDATE Employee e SET ").append(assignment)
+                .append(", e.updatedAt = :updatedAt");
+        if (!conditions.isEmpty()) {
+            jpql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+
+        // bulk updates bypass the persistence context, same as @Modifying(flushAutomatically, clearAutomatically)
+        entityManager.flush();
+        Query query = entityManager.createQuery(jpql.toString());
+        params.forEach(query::setParameter);
+        query.setParameter("updatedAt", updatedAt);
+        int updated = query.executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    private void addFilterConditions(EmployeeFilter filter, List<String> conditions, Map<String, Object> params) {
+        if (filter.getStatus() != null) {
+            conditions.add("e.status = :status");
+            params.put("status", filter.getStatus());
+        }
+        if (filter.getDepartmentId() != null) {
+            // the foreign key column, so the condition also works in UPDATE statements without the join
+            conditions.add("e.department.id = :departmentId");
+            params.put("departmentId", filter.getDepartmentId());
+        }
+        if (filter.getName() != null) {
+            conditions.add(EmployeeRepository.NAME_CONTAINS);
+            params.put("name", filter.getName());
+        }
+    }
+
+    private TypedQuery<EmployeeDTO> createQuery(List<String> conditions, Map<String, Object> params, String orderBy) {
+        // selected straight into EmployeeDTO, department columns come from the same join
+        StringBuilder jpql = new StringBuilder(EmployeeRepository.EMPLOYEE_DTO_SELECT);
+        if (!conditions.isEmpty()) {
+            jpql.append("WHERE ").append(String.join(" AND ", conditions));
+        }
+        jpql.append(orderBy);
+
+        TypedQuery<EmployeeDTO> query = entityManager.createQuery(jpql.toString(), EmployeeDTO.class);
+        params.forEach(query::setParameter);
+        return query;
+    }
+}
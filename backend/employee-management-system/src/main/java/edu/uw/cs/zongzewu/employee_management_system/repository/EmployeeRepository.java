@@ -1,33 +1,94 @@
 package edu.uw.cs.zongzewu.employee_management_system.repository;
 
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeDTO;
 import edu.uw.cs.zongzewu.employee_management_system.entity.Employee;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeFilterRepository {
+
+    /**
+     * Selects employees straight into EmployeeDTO together with their department summary,
+     * the list and search endpoints never load managed entities
+     */
+    String EMPLOYEE_DTO_SELECT = "SELECT new edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeDTO("
+            + "e.id, e.firstName, e.lastName, e.email, e.phone, e.position, e.salary, e.hireDate, e.status, "
+            + "e.createdAt, e.updatedAt, d.id, d.name, d.location, d.managerName) "
+            + "FROM Employee e LEFT JOIN e.department d ";
+
+    /**
+     * Substring match on first or last name, on PostgreSQL served by the pg_trgm GIN indexes
+     * on lower(first_name) / lower(last_name) (db/migration/V2__search_indexes.sql), keep the expressions in sync.
+     * H2 has no trigram support and runs the same condition as a scan
+     */
+    String NAME_CONTAINS = "(LOWER(e.firstName) LIKE LOWER(CONCAT('%', :name, '%')) OR "
+            + "LOWER(e.lastName) LIKE LOWER(CONCAT('%', :name, '%')))";
 
     Optional<Employee> findByEmail(String email);
 
-    List<Employee> findByDepartmentId(Long departmentId);
+    /**
+     * which of the given emails are already taken, one query for a whole batch
+     */
+    @Query("SELECT e.email FROM Employee e WHERE e.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * entity read paths load the department in the same select,
+     * EmployeeDTO.fromEntity reads it for every row
+     */
+    @Override
+    @EntityGraph(attributePaths = "department")
+    Page<Employee> findAll(Pageable pageable);
+
+    @Query(value = EMPLOYEE_DTO_SELECT,
+            countQuery = "SELECT COUNT(e) FROM Employee e")
+    Page<EmployeeDTO> findEmployeeDTOs(Pageable pageable);
 
-    List<Employee> findByStatus(Employee.EmployeeStatus status);
+    @Query(value = EMPLOYEE_DTO_SELECT + "WHERE d.id = :departmentId",
+            countQuery = "SELECT COUNT(e) FROM Employee e WHERE e.department.id = :departmentId")
+    Page<EmployeeDTO> findEmployeeDTOsByDepartmentId(@Param("departmentId") Long departmentId, Pageable pageable);
 
-    @Query("SELECT e FROM Employee AS e WHERE "
-            + "LOWER(e.firstName) LIKE LOWER(CONCAT('%', :name, '%')) OR "
-            + "LOWER(e.lastName) LIKE LOWER(CONCAT('%', :name, '%')) ")
-    List<Employee> findByNameContaining(@Param("name") String name);
+    @Query(value = EMPLOYEE_DTO_SELECT + "WHERE e.status = :status",
+            countQuery = "SELECT COUNT(e) FROM Employee e WHERE e.status = :status")
+    Page<EmployeeDTO> findEmployeeDTOsByStatus(@Param("status") Employee.EmployeeStatus status, Pageable pageable);
 
+    @Query(value = EMPLOYEE_DTO_SELECT + "WHERE " + NAME_CONTAINS,
+            countQuery = "SELECT COUNT(e) FROM Employee e WHERE " + NAME_CONTAINS)
+    Page<EmployeeDTO> findEmployeeDTOsByNameContaining(@Param("name") String name, Pageable pageable);
+
+    @EntityGraph(attributePaths = "department")
     List<Employee> findByPositionContainingIgnoreCase(String position);
 
     @Query("SELECT COUNT(e) FROM Employee AS e WHERE e.department.id = :departmentId")
     Long countByDepartmentId(@Param("departmentId") Long departmentId);
 
     List<Employee> findByDepartmentIsNull();
+
+    /**
+     * bulk writes, one statement for any number of ids
+     * updated_at is set explicitly because bulk statements skip @UpdateTimestamp
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.status = :status, e.updatedAt = :updatedAt "
+            + "WHERE e.id IN :ids AND (e.status IS NULL OR e.status <> :status)")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids,
+                          @Param("status") Employee.EmployeeStatus status,
+                          @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Employee e WHERE e.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
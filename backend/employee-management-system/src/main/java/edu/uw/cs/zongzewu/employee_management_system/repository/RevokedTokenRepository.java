@@ -0,0 +1,31 @@
+package edu.uw.cs.zongzewu.employee_management_system.repository;
+
+import edu.uw.cs.zongzewu.employee_management_system.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * every token that has not expired yet, for the initial load
+     */
+    List<RevokedToken> findByExpiresAtAfter(LocalDateTime now);
+
+    /**
+     * tokens revoked since the given time that have not expired yet
+     */
+    List<RevokedToken> findByRevokedAtGreaterThanEqualAndExpiresAtAfter(LocalDateTime revokedSince, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedToken t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,66 +1,85 @@
 package edu.uw.cs.zongzewu.employee_management_system.service;
 
+import edu.uw.cs.zongzewu.employee_management_system.config.MetricsConfig;
 import edu.uw.cs.zongzewu.employee_management_system.dto.AuthResponse;
 import edu.uw.cs.zongzewu.employee_management_system.dto.LoginRequest;
 import edu.uw.cs.zongzewu.employee_management_system.dto.RegisterRequest;
 import edu.uw.cs.zongzewu.employee_management_system.entity.User;
 import edu.uw.cs.zongzewu.employee_management_system.repository.UserRepository;
 import edu.uw.cs.zongzewu.employee_management_system.util.JwtUtil;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
 /**
  * Authentication Service - Will be completed on Day 3
  * Currently only provides a basic framework
  */
 @Service
-@RequiredArgsConstructor
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashing;
+    private final LoginThrottle loginThrottle;
     private final JwtUtil jwtUtil;
-    private final AuthenticationManager authenticationManager;
-    private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationStore tokenRevocationStore;
+
+    // compared against when the username does not exist, so unknown users take as long as wrong passwords,
+    // hashed up front so the first unknown username does not pay for an extra encode
+    private final String unknownUserHash;
+
+    public AuthService(UserRepository userRepository,
+                       PasswordHashingExecutor passwordHashing,
+                       LoginThrottle loginThrottle,
+                       JwtUtil jwtUtil,
+                       TokenRevocationStore tokenRevocationStore) {
+        this.userRepository = userRepository;
+        this.passwordHashing = passwordHashing;
+        this.loginThrottle = loginThrottle;
+        this.jwtUtil = jwtUtil;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.unknownUserHash = passwordHashing.encode("unknown-user-placeholder");
+    }
 
     /**
-     * User Login - To be implemented on Day 3
+     * User login, one user query, BCrypt runs on the hashing pool
+     * @param clientIp caller address for the per-IP attempt limit, may be null
+     * @throws LoginRejectedException if the caller is throttled or the hashing pool is saturated
+     * @throws RuntimeException if the credentials are wrong or the user is disabled
      */
-    public AuthResponse login(LoginRequest loginRquest) {
-        try {
-            // authenticate user
-            Authentication authentication = authenticationManager.authenticate(
-              new UsernamePasswordAuthenticationToken(
-                      loginRquest.getUsername(),
-                      loginRquest.getPassword()
-              )
-            );
-
-            // get user details
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            User user = userRepository.findByUsername(userDetails.getUsername())
-                    .orElseThrow(()-> new RuntimeException("User not found"));
-
-            // Generate tokens
-            String accessToken = jwtUtil.generateAccessToken(userDetails);
-            String refreshToken = jwtUtil.generateRefreshToken(userDetails);
-
-            return new AuthResponse(
-                    accessToken,
-                    refreshToken,
-                    user.getUsername(),
-                    user.getEmail(),
-                    user.getRole().name()
-            );
-
-        } catch (BadCredentialsException e) {
+    public AuthResponse login(LoginRequest loginRquest, String clientIp) {
+        String username = loginRquest.getUsername();
+        loginThrottle.checkAttempt(username, clientIp);
+
+        Optional<User> found = userRepository.findByUsername(username);
+        boolean matches = passwordHashing.matches(loginRquest.getPassword(),
+                found.map(User::getPassword).orElse(unknownUserHash));
+        if (found.isEmpty() || !matches) {
+            loginThrottle.recordFailure(username);
             throw new RuntimeException("Invalid username or password");
         }
+
+        User user = found.get();
+        if (!user.isEnabled()) {
+            throw new RuntimeException("User account is disabled");
+        }
+        loginThrottle.recordSuccess(username);
+
+        // Generate tokens
+        String accessToken = jwtUtil.generateAccessToken(user);
+        String refreshToken = jwtUtil.generateRefreshToken(user);
+
+        return new AuthResponse(
+                accessToken,
+                refreshToken,
+                user.getUsername(),
+                user.getEmail(),
+                user.getRole().name()
+        );
     }
 
     /**
@@ -77,7 +96,7 @@ public class AuthService {
 
         User user = new User();
         user.setUsername(registerRequest.getUsername());
-        user.setPassword(passwordEncoder.encode(registerRequest.getPassword()));
+        user.setPassword(passwordHashing.encode(registerRequest.getPassword()));
         user.setEmail(registerRequest.getEmail());
         user.setRole(User.Role.USER);
         user.setEnabled(true);
@@ -103,22 +122,27 @@ public class AuthService {
      * Refresh Token - To be implemented on Day 3
      */
     public AuthResponse refreshToken(String refreshToken) {
-        if (!jwtUtil.validateToken(refreshToken)) {
+        Claims claims;
+        try {
+            claims = jwtUtil.verify(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
             throw new RuntimeException("Invalid refresh Token");
         }
 
-        if (!jwtUtil.isRefreshToken(refreshToken)) {
+        if (!jwtUtil.isRefreshToken(claims)) {
             throw new RuntimeException("Token is not a refresh token");
         }
+        if (tokenRevocationStore.isRevoked(claims.getId())) {
+            throw new RuntimeException("Invalid refresh Token");
+        }
 
-        String username = jwtUtil.extractUsername(refreshToken);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-        User user = userRepository.findByUsername(username)
+        // User is the UserDetails the tokens are built from, one lookup
+        User user = userRepository.findByUsername(claims.getSubject())
                 .orElseThrow(()-> new RuntimeException("User not found"));
 
         // generate new tokens
-        String newAccessToken = jwtUtil.generateAccessToken(userDetails);
-        String newRefreshToken = jwtUtil.generateRefreshToken(userDetails);
+        String newAccessToken = jwtUtil.generateAccessToken(user);
+        String newRefreshToken = jwtUtil.generateRefreshToken(user);
 
         return new AuthResponse(
                 newAccessToken,
@@ -128,4 +152,22 @@ public class AuthService {
                 user.getRole().name()
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * Logout, revoke the access token and the refresh token if given so neither can be used again,
+     * tokens that are already invalid or expired are skipped
+     */
+    public void logout(String accessToken, String refreshToken) {
+        for (String token : new String[]{accessToken, refreshToken}) {
+            if (token == null) {
+                continue;
+            }
+            try {
+                Claims claims = jwtUtil.verify(token);
+                tokenRevocationStore.revoke(claims.getId(), claims.getExpiration());
+            } catch (JwtException | IllegalArgumentException e) {
+                // nothing to revoke
+            }
+        }
+    }
+}
@@ -1,30 +1,51 @@
 package edu.uw.cs.zongzewu.employee_management_system.service;
 
+import edu.uw.cs.zongzewu.employee_management_system.config.MetricsConfig;
+import edu.uw.cs.zongzewu.employee_management_system.dto.DepartmentDTO;
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeFilter;
 import edu.uw.cs.zongzewu.employee_management_system.dto.UpdateDepartmentRequest;
 import edu.uw.cs.zongzewu.employee_management_system.entity.Department;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Employee;
 import edu.uw.cs.zongzewu.employee_management_system.repository.DepartmentRepository;
 import edu.uw.cs.zongzewu.employee_management_system.repository.EmployeeRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @Transactional
 @RequiredArgsConstructor
 public class DepartmentService {
     private final DepartmentRepository departmentRepository;
     private final EmployeeRepository employeeRepository;
+    private final EmployeeQueryCache queryCache;
 
     /**
      * Get all departments
-     * @return all departments
+     * @param pageable page, size and sort
+     * @return one page of departments
      */
     @Transactional(readOnly = true)
-    public List<Department> getAllDepartments() {
-        return departmentRepository.findAll();
+    public Page<Department> getAllDepartments(Pageable pageable) {
+        return departmentRepository.findAll(pageable);
+    }
+
+    /**
+     * Get all departments without their employees, selected straight into DepartmentDTO
+     * with the counts computed in the database
+     * @param pageable page, size and sort
+     * @return one page of DepartmentDTO
+     */
+    @Transactional(readOnly = true)
+    public Page<DepartmentDTO> getDepartmentSummaries(Pageable pageable) {
+        return departmentRepository.findDepartmentDTOs(pageable);
     }
 
     /**
@@ -63,6 +84,8 @@ public class DepartmentService {
         existingDepartment.setLocation(updatedDepartment.getLocation());
         existingDepartment.setManagerName(updatedDepartment.getManagerName());
 
+        // cached employee lists carry the department name
+        queryCache.clearAfterCommit();
         return departmentRepository.save(existingDepartment);
     }
 
@@ -98,6 +121,7 @@ public class DepartmentService {
 
         // Apply updates to existing department
         updateRequest.applyToEntity(existingDepartment);
+        queryCache.clearAfterCommit();
 
         // Save and return updated department
         return departmentRepository.save(existingDepartment);
@@ -119,44 +143,90 @@ public class DepartmentService {
         departmentRepository.deleteById(id);
     }
 
+    /**
+     * Move employees from one department to another in one UPDATE statement
+     * @param sourceId department to move from
+     * @param targetId department to move to
+     * @param status optional, only move employees with this status
+     * @param name optional, only move employees whose first or last name contains it
+     * @return number of employees moved
+     * @throws IllegalArgumentException if source and target are the same department
+     * @throws RuntimeException if either department is not found
+     */
+    public int moveEmployees(Long sourceId, Long targetId, Employee.EmployeeStatus status, String name) {
+        Department target = getSourceAndTarget(sourceId, targetId);
+        queryCache.clearAfterCommit();
+        return employeeRepository.moveToDepartment(
+                new EmployeeFilter(status, sourceId, name), target, LocalDateTime.now());
+    }
+
+    /**
+     * Merge a department into another: all its employees move in one UPDATE statement,
+     * then the emptied department is deleted, both in the same transaction
+     * @param sourceId department to merge and delete
+     * @param targetId department that receives the employees
+     * @return number of employees moved
+     * @throws IllegalArgumentException if source and target are the same department
+     * @throws RuntimeException if either department is not found
+     */
+    public int mergeDepartment(Long sourceId, Long targetId) {
+        Department target = getSourceAndTarget(sourceId, targetId);
+        queryCache.clearAfterCommit();
+        int moved = employeeRepository.moveToDepartment(
+                EmployeeFilter.byDepartment(sourceId), target, LocalDateTime.now());
+        departmentRepository.deleteWithoutLoading(sourceId);
+        return moved;
+    }
+
+    private Department getSourceAndTarget(Long sourceId, Long targetId) {
+        if (sourceId.equals(targetId)) {
+            throw new IllegalArgumentException("Source and target department must be different");
+        }
+        if (!departmentRepository.existsById(sourceId)) {
+            throw new RuntimeException("Department not found: " + sourceId);
+        }
+        return departmentRepository.findById(targetId)
+                .orElseThrow(() -> new RuntimeException("Department not found: " + targetId));
+    }
+
     /**
      * search department by name
      */
     @Transactional(readOnly = true)
-    public List<Department> searchDepartmentsByName(String name) {
-        return departmentRepository.findByNameContainingIgnoreCase(name);
+    public Page<DepartmentDTO> searchDepartmentsByName(String name, Pageable pageable) {
+        return departmentRepository.findDepartmentDTOsByNameContaining(name, pageable);
     }
 
     /**
      * search department by location
      */
     @Transactional(readOnly = true)
-    public List<Department> searchDepartmentsByLocation(String location) {
-        return departmentRepository.findByLocationContainingIgnoreCase(location);
+    public Page<DepartmentDTO> searchDepartmentsByLocation(String location, Pageable pageable) {
+        return departmentRepository.findDepartmentDTOsByLocationContaining(location, pageable);
     }
 
     /**
      * search department by manager's name
      */
     @Transactional(readOnly = true)
-    public List<Department> searchDepartmentsByManager(String managerName) {
-        return departmentRepository.findByManagerNameContainingIgnoreCase(managerName);
+    public Page<DepartmentDTO> searchDepartmentsByManager(String managerName, Pageable pageable) {
+        return departmentRepository.findDepartmentDTOsByManagerNameContaining(managerName, pageable);
     }
 
     /**
      * get all the departments that have employees
      */
     @Transactional(readOnly = true)
-    public List<Department> getDepartmentsWithEmployees() {
-        return departmentRepository.findDepartmentsWithEmployees();
+    public Page<DepartmentDTO> getDepartmentsWithEmployees(Pageable pageable) {
+        return departmentRepository.findDepartmentDTOsWithEmployees(pageable);
     }
 
     /**
      * get departments that don't have employees
      */
     @Transactional(readOnly = true)
-    public List<Department> getEmptyDepartments() {
-        return departmentRepository.findEmptyDepartments();
+    public Page<DepartmentDTO> getEmptyDepartments(Pageable pageable) {
+        return departmentRepository.findEmptyDepartmentDTOs(pageable);
     }
 
     /**
@@ -177,5 +247,4 @@ public class DepartmentService {
     public boolean departmentExists(Long id) {
         return departmentRepository.existsById(id);
     }
-
 }
@@ -0,0 +1,127 @@
+package edu.uw.cs.zongzewu.employee_management_system.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import edu.uw.cs.zongzewu.employee_management_system.config.MetricsConfig;
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeDTO;
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeFilter;
+import edu.uw.cs.zongzewu.employee_management_system.repository.EmployeeRepository;
+import edu.uw.cs.zongzewu.employee_management_system.util.CsvUtil;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Streams employees to an OutputStream for full dumps,
+ * rows go from the JDBC cursor to the response one at a time so memory use does not depend on table size
+ */
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@RequiredArgsConstructor
+public class EmployeeExportService {
+
+    private static final List<String> CSV_HEADER = List.of(
+            "id", "firstName", "lastName", "email", "phone", "position", "salary", "hireDate", "status",
+            "departmentId", "departmentName", "createdAt", "updatedAt");
+
+    private final EmployeeRepository employeeRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.export.fetch-size:1000}")
+    private int fetchSize;
+
+    public enum Format {
+        NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+        CSV(MediaType.parseMediaType("text/csv"), "csv");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * @throws IllegalArgumentException if the format is not supported
+         */
+        public static Format from(String format) {
+            return Arrays.stream(values())
+                    .filter(value -> value.extension.equalsIgnoreCase(format))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid export format: " + format
+                            + ". Valid values are: ndjson, csv"));
+        }
+    }
+
+    /**
+     * Write every employee matching the filter, ordered by id
+     * the transaction is opened on the thread that writes the response and holds the cursor until the end
+     * @param filter optional status/department/name criteria
+     * @param format ndjson or csv
+     * @param out response body, not closed here
+     */
+    @Transactional(readOnly = true)
+    public void export(EmployeeFilter filter, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try (Stream<EmployeeDTO> employees = employeeRepository.streamByFilter(filter, fetchSize)) {
+            if (format == Format.CSV) {
+                CsvUtil.writeRow(writer, CSV_HEADER);
+                employees.forEach(employee -> writeCsv(writer, employee));
+            } else {
+                ObjectWriter jsonWriter = objectMapper.writerFor(EmployeeDTO.class);
+                employees.forEach(employee -> writeJsonLine(writer, jsonWriter, employee));
+            }
+        } catch (UncheckedIOException e) {
+            // client went away, stop reading rows
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void writeCsv(Writer writer, EmployeeDTO employee) {
+        EmployeeDTO.DepartmentSummaryDTO department = employee.getDepartment();
+        try {
+            CsvUtil.writeRow(writer, Arrays.asList(
+                    employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail(),
+                    employee.getPhone(), employee.getPosition(), employee.getSalary(), employee.getHireDate(),
+                    employee.getStatus(),
+                    department != null ? department.getId() : null,
+                    department != null ? department.getName() : null,
+                    employee.getCreatedAt(), employee.getUpdatedAt()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeJsonLine(Writer writer, ObjectWriter jsonWriter, EmployeeDTO employee) {
+        try {
+            writer.write(jsonWriter.writeValueAsString(employee));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package edu.uw.cs.zongzewu.employee_management_system.service;
+
+import edu.uw.cs.zongzewu.employee_management_system.config.MetricsConfig;
+import edu.uw.cs.zongzewu.employee_management_system.dto.CreateEmployeeRequest;
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeImportResult;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Department;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Employee;
+import edu.uw.cs.zongzewu.employee_management_system.repository.DepartmentRepository;
+import edu.uw.cs.zongzewu.employee_management_system.util.CsvUtil;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of employees from CSV
+ * Rows are parsed and validated one at a time, valid rows are loaded into a temporary staging table
+ * (COPY on PostgreSQL, JDBC batches elsewhere) and merged into employees with one INSERT ... SELECT
+ */
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+@RequiredArgsConstructor
+public class EmployeeImportService {
+
+    static final String STAGING_TABLE = "employee_import_staging";
+
+    private static final String STAGING_COLUMNS =
+            "row_no, staged_no, first_name, last_name, email, phone, position, salary, hire_date, status, department_id";
+
+    private static final String STAGING_DEFINITION = " (row_no BIGINT NOT NULL, staged_no BIGINT NOT NULL, first_name VARCHAR(100), "
+            + "last_name VARCHAR(100), email VARCHAR(150), phone VARCHAR(20), position VARCHAR(100), "
+            + "salary NUMERIC(10, 2), hire_date DATE, status VARCHAR(20), department_id BIGINT, block_hi BIGINT)";
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String EMPLOYEE_SEQUENCE = "employees_seq";
+
+    // employees_seq INCREMENT BY, same as the allocationSize on Employee
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private static final Set<String> REQUIRED_COLUMNS = Set.of("firstname", "lastname", "email");
+
+    private final DepartmentRepository departmentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Validator validator;
+    private final EntityManagerFactory entityManagerFactory;
+    private final EmployeeQueryCache queryCache;
+
+    /**
+     * Import employees from CSV, the first record is the header
+     * Columns (case insensitive): firstName, lastName, email, phone, position, salary, hireDate (yyyy-MM-dd),
+     * status, department (name or id), or departmentId / departmentName
+     * Invalid rows and emails that already exist are reported and skipped, the other rows are imported
+     * @param csv UTF-8 CSV content
+     * @return imported count and per-row errors
+     * @throws IllegalArgumentException if the header is missing or lacks a required column
+     */
+    @Transactional
+    public EmployeeImportResult importCsv(InputStream csv) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+        Map<String, Integer> columns = readHeader(reader);
+
+        // one query for all departments instead of one findById per row
+        List<Department> departments = departmentRepository.findAll();
+        Set<Long> departmentIds = departments.stream()
+                .map(Department::getId)
+                .collect(Collectors.toSet());
+        Map<String, Long> departmentIdsByName = departments.stream()
+                .collect(Collectors.toMap(d -> d.getName().toLowerCase(Locale.ROOT), Department::getId, (a, b) -> a));
+
+        EmployeeImportResult result = new EmployeeImportResult();
+        Set<String> seenEmails = new HashSet<>();
+
+        return jdbcTemplate.execute((ConnectionCallback<EmployeeImportResult>) connection -> {
+            try (StagingLoader loader = openStaging(connection)) {
+                long row = 0;
+                long staged = 0;
+                List<String> record;
+                while ((record = readRecord(reader)) != null) {
+                    if (record.size() == 1 && record.get(0).isBlank()) {
+                        continue;
+                    }
+                    row++;
+                    String email = field(record, columns, "email");
+                    try {
+                        CreateEmployeeRequest request = toRequest(record, columns);
+                        validate(request);
+                        Long departmentId = resolveDepartment(record, columns, departmentIds, departmentIdsByName);
+                        if (!seenEmails.add(request.getEmail().toLowerCase(Locale.ROOT))) {
+                            throw new IllegalArgumentException("Duplicate email in file: " + request.getEmail());
+                        }
+                        loader.add(row, staged++, request, departmentId);
+                    } catch (IllegalArgumentException e) {
+                        result.addError(row, email, e.getMessage());
+                    }
+                }
+                loader.finish();
+                result.setTotalRows((int) row);
+            }
+
+            merge(result);
+            jdbcTemplate.update("DELETE FROM " + STAGING_TABLE);
+            queryCache.clearAfterCommit();
+            return result;
+        });
+    }
+
+    /**
+     * report staged rows whose email is already taken (case insensitive, like the in-file check),
+     * then insert the rest in one statement
+     */
+    private void merge(EmployeeImportResult result) {
+        jdbcTemplate.query("SELECT s.row_no, s.email FROM " + STAGING_TABLE + " s "
+                        + "WHERE EXISTS (SELECT 1 FROM employees e WHERE LOWER(e.email) = LOWER(s.email))",
+                rs -> {
+                    result.addError(rs.getLong("row_no"), rs.getString("email"),
+                            "This email already exists: " + rs.getString("email"));
+                });
+        result.getErrors().sort((a, b) -> Long.compare(a.getRow(), b.getRow()));
+
+        // one sequence value per ID_BLOCK_SIZE staged rows, the first row of each block holds it,
+        // a value hi stands for the ids hi - 49 .. hi, the same range Hibernate's pooled optimizer takes for it
+        jdbcTemplate.update("UPDATE " + STAGING_TABLE + " SET block_hi = " + nextEmployeeId()
+                + " WHERE MOD(staged_no, " + ID_BLOCK_SIZE + ") = 0");
+        int imported = jdbcTemplate.update("INSERT INTO employees (id, first_name, last_name, email, phone, position, "
+                + "salary, hire_date, status, department_id, created_at, updated_at) "
+                + "SELECT b.block_hi - " + (ID_BLOCK_SIZE - 1) + " + MOD(s.staged_no, " + ID_BLOCK_SIZE + "), "
+                + "s.first_name, s.last_name, s.email, s.phone, s.position, s.salary, s.hire_date, s.status, "
+                + "s.department_id, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM " + STAGING_TABLE + " s "
+                + "JOIN " + STAGING_TABLE + " b ON b.staged_no = s.staged_no - MOD(s.staged_no, " + ID_BLOCK_SIZE + ") "
+                + "WHERE NOT EXISTS (SELECT 1 FROM employees e WHERE LOWER(e.email) = LOWER(s.email))");
+        result.setImportedRows(imported);
+    }
+
+    private String nextEmployeeId() {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect()
+                .getSequenceSupport().getSelectSequenceNextValString(EMPLOYEE_SEQUENCE);
+    }
+
+    private StagingLoader openStaging(Connection connection) throws SQLException {
+        if (connection.isWrapperFor(PGConnection.class)) {
+            jdbcTemplate.execute("CREATE TEMP TABLE IF NOT EXISTS " + STAGING_TABLE + STAGING_DEFINITION
+                    + " ON COMMIT DROP");
+            jdbcTemplate.execute("TRUNCATE " + STAGING_TABLE);
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn("COPY " + STAGING_TABLE + " (" + STAGING_COLUMNS + ") FROM STDIN WITH (FORMAT csv)");
+            return new CopyStagingLoader(copyIn);
+        }
+        // H2 and others: TRANSACTIONAL keeps the DDL from committing the surrounding transaction
+        jdbcTemplate.execute("CREATE LOCAL TEMPORARY TABLE IF NOT EXISTS " + STAGING_TABLE + STAGING_DEFINITION
+                + " TRANSACTIONAL");
+        jdbcTemplate.update("DELETE FROM " + STAGING_TABLE);
+        return new BatchStagingLoader();
+    }
+
+    private Map<String, Integer> readHeader(BufferedReader reader) {
+        List<String> header = readRecord(reader);
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // tolerate a UTF-8 BOM written by spreadsheet tools
+            columns.put(header.get(i).replace("﻿", "").trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream()
+                .filter(column -> !columns.containsKey(column))
+                .sorted()
+                .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Missing required columns: " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    private List<String> readRecord(BufferedReader reader) {
+        try {
+            return CsvUtil.readRecord(reader);
+        } catch (IllegalArgumentException e) {
+            // the rest of the file can not be split into records reliably
+            throw new IllegalArgumentException("Malformed CSV: " + e.getMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private CreateEmployeeRequest toRequest(List<String> record, Map<String, Integer> columns) {
+        CreateEmployeeRequest request = new CreateEmployeeRequest();
+        request.setFirstName(field(record, columns, "firstname"));
+        request.setLastName(field(record, columns, "lastname"));
+        request.setEmail(field(record, columns, "email"));
+        request.setPhone(field(record, columns, "phone"));
+        request.setPosition(field(record, columns, "position"));
+
+        String salary = field(record, columns, "salary");
+        if (salary != null) {
+            try {
+                request.setSalary(new BigDecimal(salary));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid salary: " + salary);
+            }
+        }
+        String hireDate = field(record, columns, "hiredate");
+        if (hireDate != null) {
+            try {
+                request.setHireDate(LocalDate.parse(hireDate));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid hire date: " + hireDate + ", expected yyyy-MM-dd");
+            }
+        }
+        String status = field(record, columns, "status");
+        if (status != null) {
+            try {
+                request.setStatus(Employee.EmployeeStatus.valueOf(status.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid employee status: " + status
+                        + ". Valid values are: ACTIVE, INACTIVE, TERMINATED");
+            }
+        }
+        return request;
+    }
+
+    /**
+     * same checks as POST /api/employees: bean validation, then validateBusinessRules
+     */
+    private void validate(CreateEmployeeRequest request) {
+        Set<ConstraintViolation<CreateEmployeeRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        request.validateBusinessRules();
+    }
+
+    private Long resolveDepartment(List<String> record, Map<String, Integer> columns,
+                                   Set<Long> departmentIds, Map<String, Long> departmentIdsByName) {
+        String id = field(record, columns, "departmentid");
+        String name = field(record, columns, "departmentname");
+        String department = field(record, columns, "department");
+        if (department != null) {
+            if (department.chars().allMatch(Character::isDigit)) {
+                id = department;
+            } else {
+                name = department;
+            }
+        }
+
+        if (id != null) {
+            Long departmentId;
+            try {
+                departmentId = Long.valueOf(id);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid department id: " + id);
+            }
+            if (!departmentIds.contains(departmentId)) {
+                throw new IllegalArgumentException("Department not found with id: " + id);
+            }
+            return departmentId;
+        }
+        if (name != null) {
+            Long departmentId = departmentIdsByName.get(name.toLowerCase(Locale.ROOT));
+            if (departmentId == null) {
+                throw new IllegalArgumentException("Department not found with name: " + name);
+            }
+            return departmentId;
+        }
+        return null;
+    }
+
+    /**
+     * trimmed value of a column, null if the column is absent or the value is blank
+     */
+    private static String field(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<Object> stagingValues(long row, long staged, CreateEmployeeRequest request, Long departmentId) {
+        return Arrays.asList(row, staged, request.getFirstName(), request.getLastName(), request.getEmail(),
+                request.getPhone(), request.getPosition(), request.getSalary(), request.getHireDate(),
+                request.getStatus().name(), departmentId);
+    }
+
+    /**
+     * Receives valid rows as they are parsed, so the file is never held in memory
+     */
+    private interface StagingLoader extends AutoCloseable {
+        void add(long row, long staged, CreateEmployeeRequest request, Long departmentId) throws SQLException;
+
+        void finish() throws SQLException;
+
+        @Override
+        void close() throws SQLException;
+    }
+
+    /**
+     * PostgreSQL COPY ... FROM STDIN in CSV format, rows are sent to the server as they are written
+     */
+    private static final class CopyStagingLoader implements StagingLoader {
+        private final CopyIn copyIn;
+
+        private CopyStagingLoader(CopyIn copyIn) {
+            this.copyIn = copyIn;
+        }
+
+        @Override
+        public void add(long row, long staged, CreateEmployeeRequest request, Long departmentId) throws SQLException {
+            StringWriter line = new StringWriter();
+            try {
+                CsvUtil.writeRow(line, stagingValues(row, staged, request, departmentId));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+        }
+
+        @Override
+        public void finish() throws SQLException {
+            copyIn.endCopy();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * Fallback for databases without COPY, inserts BATCH_SIZE rows per round trip
+     */
+    private final class BatchStagingLoader implements StagingLoader {
+        private final List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+
+        @Override
+        public void add(long row, long staged, CreateEmployeeRequest request, Long departmentId) {
+            batch.add(stagingValues(row, staged, request, departmentId).toArray());
+            if (batch.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        @Override
+        public void finish() {
+            flush();
+        }
+
+        @Override
+        public void close() {
+            batch.clear();
+        }
+
+        private void flush() {
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate("INSERT INTO " + STAGING_TABLE + " (" + STAGING_COLUMNS + ") "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+}
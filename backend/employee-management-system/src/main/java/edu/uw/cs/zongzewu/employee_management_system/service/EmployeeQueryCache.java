@@ -0,0 +1,156 @@
+package edu.uw.cs.zongzewu.employee_management_system.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeDTO;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Employee;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded in-process cache for the employee name search, status and department lists,
+ * the frontend repeats the same calls while users type and switch tabs.
+ * A cold key is loaded once, concurrent callers for the same key wait for that load.
+ * Writes evict the lists they can change once their transaction commits,
+ * the TTL bounds staleness from writes made on another node or straight in the database.
+ * Cached pages are shared between callers and must not be modified
+ */
+@Component
+public class EmployeeQueryCache implements MeterBinder {
+
+    public static final String NAME = "employee-queries";
+
+    public enum QueryType {
+        NAME, STATUS, DEPARTMENT
+    }
+
+    private record Key(QueryType type, Object argument, Pageable pageable) {
+    }
+
+    /**
+     * the fields of an employee that decide which cached lists it appears in,
+     * taken before and after a change
+     */
+    public record Snapshot(Employee.EmployeeStatus status, Long departmentId, String firstName, String lastName) {
+
+        public static Snapshot of(Employee employee) {
+            return new Snapshot(employee.getStatus(),
+                    employee.getDepartment() != null ? employee.getDepartment().getId() : null,
+                    employee.getFirstName(), employee.getLastName());
+        }
+    }
+
+    private final Cache<Key, Page<EmployeeDTO>> cache;
+
+    // bumped by every eviction, a load that overlaps one may have read the old rows
+    private final AtomicLong evictions = new AtomicLong();
+
+    public EmployeeQueryCache(@Value("${app.cache.employee-queries.ttl:60s}") Duration ttl,
+                              @Value("${app.cache.employee-queries.max-size:1000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * cached page for the query, loaded once per key when missing
+     * @param type which list
+     * @param argument name, status or department id
+     * @param pageable page, size and sort, part of the key
+     * @param loader runs the query on a miss
+     */
+    public Page<EmployeeDTO> get(QueryType type, Object argument, Pageable pageable, Supplier<Page<EmployeeDTO>> loader) {
+        Key key = new Key(type, argument, pageable);
+        long generation = evictions.get();
+        boolean[] loaded = new boolean[1];
+        Page<EmployeeDTO> page = cache.get(key, k -> {
+            loaded[0] = true;
+            return loader.get();
+        });
+        if (loaded[0] && generation != evictions.get()) {
+            // a write committed while this page was read, return it but do not keep it
+            cache.asMap().remove(key, page);
+        }
+        return page;
+    }
+
+    /**
+     * evict the lists the employees appeared in, after the current transaction commits
+     * @param changed state before and/or after the change
+     */
+    public void evictAfterCommit(Snapshot... changed) {
+        evictAfterCommit(List.of(changed));
+    }
+
+    public void evictAfterCommit(Collection<Snapshot> changed) {
+        afterCommit(() -> cache.asMap().keySet().removeIf(key -> changed.stream().anyMatch(s -> affects(key, s))));
+    }
+
+    /**
+     * evict everything after the current transaction commits,
+     * for writes that do not know which rows they touched (bulk statements, CSV import, department changes)
+     */
+    public void clearAfterCommit() {
+        afterCommit(cache::invalidateAll);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // cache.gets{result=hit|miss}, cache.puts, cache.evictions, cache.size with cache=employee-queries
+        CaffeineCacheMetrics.monitor(registry, cache, NAME);
+    }
+
+    private void afterCommit(Runnable eviction) {
+        Runnable counted = () -> {
+            evictions.incrementAndGet();
+            eviction.run();
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counted.run();
+                }
+            });
+        } else {
+            counted.run();
+        }
+    }
+
+    private static boolean affects(Key key, Snapshot employee) {
+        return switch (key.type()) {
+            case STATUS -> key.argument() == employee.status();
+            case DEPARTMENT -> Objects.equals(key.argument(), employee.departmentId());
+            // same match as EmployeeRepository.NAME_CONTAINS
+            case NAME -> contains(employee.firstName(), (String) key.argument())
+                    || contains(employee.lastName(), (String) key.argument());
+        };
+    }
+
+    private static boolean contains(String value, String name) {
+        return value != null && name != null
+                && value.toLowerCase(Locale.ROOT).contains(name.toLowerCase(Locale.ROOT));
+    }
+}
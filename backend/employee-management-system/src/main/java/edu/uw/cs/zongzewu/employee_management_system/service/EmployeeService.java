@@ -1,32 +1,64 @@
 package edu.uw.cs.zongzewu.employee_management_system.service;
 
 
+import edu.uw.cs.zongzewu.employee_management_system.config.MetricsConfig;
+import edu.uw.cs.zongzewu.employee_management_system.dto.CreateEmployeeRequest;
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeBatchResult;
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeDTO;
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeFilter;
 import edu.uw.cs.zongzewu.employee_management_system.dto.UpdateEmployeeRequest;
 import edu.uw.cs.zongzewu.employee_management_system.entity.Department;
 import edu.uw.cs.zongzewu.employee_management_system.entity.Employee;
 import edu.uw.cs.zongzewu.employee_management_system.repository.DepartmentRepository;
 import edu.uw.cs.zongzewu.employee_management_system.repository.EmployeeRepository;
+import edu.uw.cs.zongzewu.employee_management_system.util.KeysetCursor;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @RequiredArgsConstructor
 @Transactional
 public class EmployeeService {
     private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository;
+    private final Validator validator;
+    private final EmployeeQueryCache queryCache;
+
+    @Value("${app.batch.max-size:1000}")
+    private int maxBatchSize;
 
     /**
-     * Get all employees
-     * @return all employees
+     * Get all employees, selected straight into EmployeeDTO
+     * @param pageable page, size and sort
+     * @return one page of employees
      */
     @Transactional(readOnly = true)
-    public List<Employee> getAllEmployees() {
-        return employeeRepository.findAll();
+    public Page<EmployeeDTO> getAllEmployees(Pageable pageable) {
+        return employeeRepository.findEmployeeDTOs(pageable);
     }
 
     /**
@@ -61,7 +93,9 @@ public class EmployeeService {
             employee.setStatus(Employee.EmployeeStatus.ACTIVE);
         }
 
-        return employeeRepository.save(employee);
+        Employee saved = employeeRepository.save(employee);
+        queryCache.evictAfterCommit(EmployeeQueryCache.Snapshot.of(saved));
+        return saved;
     }
 
     /**
@@ -71,6 +105,94 @@ public class EmployeeService {
         return createEmployee(employee, null);
     }
 
+    /**
+     * Create many employees in one transaction
+     * every item is checked first, departments and taken emails are looked up once for the whole batch,
+     * then the valid items are saved together so Hibernate sends them as JDBC batches
+     * @param requests items to create, an invalid item is reported by index and does not stop the others
+     * @return created employees and per item errors
+     * @throws IllegalArgumentException if the batch is empty or larger than app.batch.max-size
+     */
+    public EmployeeBatchResult createEmployees(List<CreateEmployeeRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Batch cannot be empty");
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new IllegalArgumentException("Batch cannot contain more than " + maxBatchSize + " employees");
+        }
+
+        Set<Long> departmentIds = requests.stream()
+                .filter(Objects::nonNull)
+                .map(CreateEmployeeRequest::getDepartmentId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Department> departments = departmentRepository.findAllById(departmentIds).stream()
+                .collect(Collectors.toMap(Department::getId, Function.identity()));
+
+        Set<String> emails = requests.stream()
+                .filter(Objects::nonNull)
+                .map(CreateEmployeeRequest::getEmail)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> takenEmails = emails.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(employeeRepository.findExistingEmails(emails));
+
+        EmployeeBatchResult result = new EmployeeBatchResult();
+        result.setTotalItems(requests.size());
+        List<Employee> employees = new ArrayList<>();
+        Set<String> batchEmails = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            CreateEmployeeRequest request = requests.get(i);
+            if (request == null) {
+                result.addError(i, null, "Item cannot be null");
+                continue;
+            }
+            try {
+                validate(request);
+                if (takenEmails.contains(request.getEmail())) {
+                    throw new IllegalArgumentException("This email already exists: " + request.getEmail());
+                }
+                if (!batchEmails.add(request.getEmail())) {
+                    throw new IllegalArgumentException("Duplicate email in batch: " + request.getEmail());
+                }
+
+                Employee employee = request.toEntity();
+                if (request.getDepartmentId() != null) {
+                    Department department = departments.get(request.getDepartmentId());
+                    if (department == null) {
+                        throw new IllegalArgumentException("Department not found with id: " + request.getDepartmentId());
+                    }
+                    employee.setDepartment(department);
+                }
+                employees.add(employee);
+            } catch (IllegalArgumentException e) {
+                result.addError(i, request.getEmail(), e.getMessage());
+            }
+        }
+
+        // flush here so ids and timestamps are in the response
+        employeeRepository.saveAll(employees);
+        employeeRepository.flush();
+        queryCache.evictAfterCommit(employees.stream().map(EmployeeQueryCache.Snapshot::of).collect(Collectors.toList()));
+        result.setCreated(employees.stream().map(EmployeeDTO::fromEntity).collect(Collectors.toList()));
+        return result;
+    }
+
+    /**
+     * same checks as POST /api/employees: bean validation, then validateBusinessRules
+     */
+    private void validate(CreateEmployeeRequest request) {
+        Set<ConstraintViolation<CreateEmployeeRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        request.validateBusinessRules();
+    }
+
     /**
      * update employee
      * @param id
@@ -80,6 +202,7 @@ public class EmployeeService {
     public Employee updateEmployee(Long id, Employee updatedEmployee) {
         Employee existingEmployee = employeeRepository.findById(id)
                 .orElseThrow(()-> new RuntimeException("Employee not found:" + id));
+        EmployeeQueryCache.Snapshot before = EmployeeQueryCache.Snapshot.of(existingEmployee);
         Optional<Employee> emailCheck = employeeRepository.findByEmail(updatedEmployee.getEmail());
         if (emailCheck.isPresent() && !emailCheck.get().getId().equals(id)) {
             throw new RuntimeException("Email already exists: " + updatedEmployee.getEmail());
@@ -101,7 +224,9 @@ public class EmployeeService {
             existingEmployee.setDepartment(department);
         }
 
-        return  employeeRepository.save(existingEmployee);
+        Employee saved = employeeRepository.save(existingEmployee);
+        queryCache.evictAfterCommit(before, EmployeeQueryCache.Snapshot.of(saved));
+        return saved;
     }
 
     /**
@@ -115,6 +240,7 @@ public class EmployeeService {
         // Find existing employee
         Employee existingEmployee = employeeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Employee not found with id: " + id));
+        EmployeeQueryCache.Snapshot before = EmployeeQueryCache.Snapshot.of(existingEmployee);
 
         // Validate business rules
         updateRequest.validateBusinessRules();
@@ -144,7 +270,9 @@ public class EmployeeService {
         updateRequest.applyToEntity(existingEmployee);
 
         // Save and return updated employee
-        return employeeRepository.save(existingEmployee);
+        Employee saved = employeeRepository.save(existingEmployee);
+        queryCache.evictAfterCommit(before, EmployeeQueryCache.Snapshot.of(saved));
+        return saved;
     }
 
     /**
@@ -152,40 +280,64 @@ public class EmployeeService {
      * @param id
      */
     public void deleteEmployee(Long id) {
-        if (!employeeRepository.existsById(id)) {
-            throw new RuntimeException("Employee not found: " + id);
-        }
-        employeeRepository.deleteById(id);
+        // deleteById loads the employee anyway, load it here to know which cached lists it was in
+        Employee employee = employeeRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Employee not found: " + id));
+        employeeRepository.delete(employee);
+        queryCache.evictAfterCommit(EmployeeQueryCache.Snapshot.of(employee));
     }
 
     /**
      * get all the employees belongs to the department with the id
      * @param departmentId
-     * @return List of employee
+     * @param pageable
+     * @return Page of employee
      */
-    @Transactional(readOnly = true)
-    public List<Employee> getEmployeesByDepartment(Long departmentId) {
-        return employeeRepository.findByDepartmentId(departmentId);
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS) // a cache hit does not take a connection
+    public Page<EmployeeDTO> getEmployeesByDepartment(Long departmentId, Pageable pageable) {
+        return queryCache.get(EmployeeQueryCache.QueryType.DEPARTMENT, departmentId, pageable,
+                () -> employeeRepository.findEmployeeDTOsByDepartmentId(departmentId, pageable));
     }
 
     /**
      * get employees that are under status
      * @param status
-     * @return List of employees
+     * @param pageable
+     * @return Page of employees
      */
-    @Transactional(readOnly = true)
-    public List<Employee> getEmployeesByStatus(Employee.EmployeeStatus status) {
-        return employeeRepository.findByStatus(status);
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS) // a cache hit does not take a connection
+    public Page<EmployeeDTO> getEmployeesByStatus(Employee.EmployeeStatus status, Pageable pageable) {
+        return queryCache.get(EmployeeQueryCache.QueryType.STATUS, status, pageable,
+                () -> employeeRepository.findEmployeeDTOsByStatus(status, pageable));
     }
 
     /**
      * find all the employees that likely have this name
      * @param name
-     * @return List of employees
+     * @param pageable
+     * @return Page of employees
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS) // a cache hit does not take a connection
+    public Page<EmployeeDTO> searchEmployeesByName(String name, Pageable pageable) {
+        return queryCache.get(EmployeeQueryCache.QueryType.NAME, name, pageable,
+                () -> employeeRepository.findEmployeeDTOsByNameContaining(name, pageable));
+    }
+
+    /**
+     * keyset pagination, seeks past the cursor instead of using OFFSET
+     * so deep pages cost the same as the first one, no total count is computed
+     * @param filter optional status/department/name criteria
+     * @param cursor position of the last row already returned
+     * @param size page size
+     * @return Slice of employees, hasNext tells whether another page exists
      */
     @Transactional(readOnly = true)
-    public List<Employee> searchEmployeesByName(String name) {
-        return employeeRepository.findByNameContaining(name);
+    public Slice<EmployeeDTO> scrollEmployees(EmployeeFilter filter, KeysetCursor cursor, int size) {
+        // fetch one extra row to know if there is a next page
+        List<EmployeeDTO> rows = employeeRepository.findKeysetPage(filter, cursor, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<EmployeeDTO> content = hasNext ? rows.subList(0, size) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
     }
 
     /**
@@ -197,9 +349,63 @@ public class EmployeeService {
     public Employee updateEmployeeStatus(Long id, Employee.EmployeeStatus status) {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Employee not found: " + id));
+        EmployeeQueryCache.Snapshot before = EmployeeQueryCache.Snapshot.of(employee);
 
         employee.setStatus(status);
-        return employeeRepository.save(employee);
+        Employee saved = employeeRepository.save(employee);
+        queryCache.evictAfterCommit(before, EmployeeQueryCache.Snapshot.of(saved));
+        return saved;
+    }
+
+    /**
+     * Set the status of many employees in one UPDATE statement
+     * @param ids employee ids, unknown ids are ignored
+     * @param status new status
+     * @return number of employees whose status changed, ids already in that status are not counted
+     * @throws IllegalArgumentException if more than app.batch.max-size ids are given
+     */
+    public int updateEmployeeStatus(Collection<Long> ids, Employee.EmployeeStatus status) {
+        checkBulkSize(ids);
+        // the statement does not report which rows it changed, drop every cached list
+        queryCache.clearAfterCommit();
+        return employeeRepository.updateStatusByIds(ids, status, LocalDateTime.now());
+    }
+
+    /**
+     * Set the status of every employee matching the filter in one UPDATE statement
+     * @param filter current status/department/name criteria, at least one is required
+     * @param status new status
+     * @return number of employees whose status changed
+     * @throws IllegalArgumentException if the filter is empty
+     */
+    public int updateEmployeeStatus(EmployeeFilter filter, Employee.EmployeeStatus status) {
+        if (filter.isEmpty()) {
+            // refuse to change the whole company by accident
+            throw new IllegalArgumentException("At least one filter is required");
+        }
+        queryCache.clearAfterCommit();
+        return employeeRepository.updateStatusByFilter(filter, status, LocalDateTime.now());
+    }
+
+    /**
+     * Delete many employees in one DELETE statement
+     * @param ids employee ids, unknown ids are ignored
+     * @return number of employees deleted
+     * @throws IllegalArgumentException if more than app.batch.max-size ids are given
+     */
+    public int deleteEmployees(Collection<Long> ids) {
+        checkBulkSize(ids);
+        queryCache.clearAfterCommit();
+        return employeeRepository.deleteByIds(ids);
+    }
+
+    private void checkBulkSize(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("Employee ids are required");
+        }
+        if (ids.size() > maxBatchSize) {
+            throw new IllegalArgumentException("Cannot process more than " + maxBatchSize + " employees at once");
+        }
     }
 
     /**
@@ -0,0 +1,31 @@
+package edu.uw.cs.zongzewu.employee_management_system.service;
+
+/**
+ * A login refused before the password was checked, the client should retry later
+ */
+public class LoginRejectedException extends RuntimeException {
+
+    public enum Reason {
+        /** too many attempts for the username or from the address */
+        THROTTLED,
+        /** the password hashing executor is saturated */
+        BUSY
+    }
+
+    private final Reason reason;
+    private final long retryAfterSeconds;
+
+    public LoginRejectedException(Reason reason, String message, long retryAfterSeconds) {
+        super(message);
+        this.reason = reason;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
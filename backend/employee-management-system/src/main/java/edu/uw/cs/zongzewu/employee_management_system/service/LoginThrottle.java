@@ -0,0 +1,112 @@
+package edu.uw.cs.zongzewu.employee_management_system.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+
+/**
+ * In-memory sliding-window limits for POST /api/auth/login, per node:
+ * every attempt from one address counts against max-attempts-per-ip (credential stuffing),
+ * failed attempts for one username count against max-failures-per-username (guessing one password),
+ * a successful login clears the username's failures.
+ * Windows are bounded in number, idle ones expire after the window
+ */
+@Component
+public class LoginThrottle {
+
+    private final Duration window;
+    private final int maxAttemptsPerIp;
+    private final int maxFailuresPerUsername;
+    private final Cache<String, Deque<Long>> attemptsByIp;
+    private final Cache<String, Deque<Long>> failuresByUsername;
+    private final Counter ipRejections;
+    private final Counter usernameRejections;
+
+    public LoginThrottle(MeterRegistry meterRegistry,
+                         @Value("${app.auth.throttle.window:5m}") Duration window,
+                         @Value("${app.auth.throttle.max-attempts-per-ip:50}") int maxAttemptsPerIp,
+                         @Value("${app.auth.throttle.max-failures-per-username:5}") int maxFailuresPerUsername) {
+        this.window = window;
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.maxFailuresPerUsername = maxFailuresPerUsername;
+        this.attemptsByIp = Caffeine.newBuilder().maximumSize(100_000).expireAfterAccess(window).build();
+        this.failuresByUsername = Caffeine.newBuilder().maximumSize(100_000).expireAfterAccess(window).build();
+        this.ipRejections = Counter.builder("auth.login.rejected").tag("reason", "throttled_ip").register(meterRegistry);
+        this.usernameRejections = Counter.builder("auth.login.rejected").tag("reason", "throttled_username")
+                .register(meterRegistry);
+    }
+
+    /**
+     * count an attempt from the address and check both limits, before any password is hashed
+     * @throws LoginRejectedException THROTTLED if either limit is reached
+     */
+    public void checkAttempt(String username, String clientIp) {
+        long now = System.currentTimeMillis();
+        if (clientIp != null && !record(attemptsByIp.get(clientIp, key -> new ArrayDeque<>()), now, maxAttemptsPerIp)) {
+            ipRejections.increment();
+            throw throttled();
+        }
+        Deque<Long> failures = failuresByUsername.getIfPresent(key(username));
+        if (failures != null && count(failures, now) >= maxFailuresPerUsername) {
+            usernameRejections.increment();
+            throw throttled();
+        }
+    }
+
+    public void recordFailure(String username) {
+        long now = System.currentTimeMillis();
+        Deque<Long> failures = failuresByUsername.get(key(username), key -> new ArrayDeque<>());
+        synchronized (failures) {
+            failures.addLast(now);
+        }
+    }
+
+    public void recordSuccess(String username) {
+        failuresByUsername.invalidate(key(username));
+    }
+
+    /**
+     * add the timestamp unless the window is already full
+     */
+    private boolean record(Deque<Long> timestamps, long now, int limit) {
+        synchronized (timestamps) {
+            evictExpired(timestamps, now);
+            if (timestamps.size() >= limit) {
+                return false;
+            }
+            timestamps.addLast(now);
+            return true;
+        }
+    }
+
+    private int count(Deque<Long> timestamps, long now) {
+        synchronized (timestamps) {
+            evictExpired(timestamps, now);
+            return timestamps.size();
+        }
+    }
+
+    private void evictExpired(Deque<Long> timestamps, long now) {
+        long windowStart = now - window.toMillis();
+        while (!timestamps.isEmpty() && timestamps.peekFirst() <= windowStart) {
+            timestamps.pollFirst();
+        }
+    }
+
+    private LoginRejectedException throttled() {
+        return new LoginRejectedException(LoginRejectedException.Reason.THROTTLED,
+                "Too many login attempts, please try again later", window.toSeconds());
+    }
+
+    private static String key(String username) {
+        return username == null ? "" : username.toLowerCase(Locale.ROOT);
+    }
+}
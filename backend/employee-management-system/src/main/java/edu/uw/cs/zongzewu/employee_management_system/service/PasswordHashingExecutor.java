@@ -0,0 +1,116 @@
+package edu.uw.cs.zongzewu.employee_management_system.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs BCrypt on a small dedicated pool instead of Tomcat worker threads,
+ * a login burst then costs at most `threads` cores and never blocks other endpoints.
+ * When the queue is full or a hash waits longer than the timeout the login is rejected right away
+ * Metrics: auth.password.hash (timer), auth.password.hash.queue (gauge), auth.login.rejected{reason=busy}
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Timer hashTimer;
+    private final Counter busyRejections;
+
+    public PasswordHashingExecutor(PasswordEncoder passwordEncoder,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.auth.hashing.threads:0}") int threads,
+                                   @Value("${app.auth.hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${app.auth.hashing.timeout:5s}") Duration timeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+        // 0 = half the cores, the rest stay for the API
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("auth.password.hash")
+                .description("BCrypt time on the hashing pool")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.busyRejections = Counter.builder("auth.login.rejected")
+                .tag("reason", "busy")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.queue", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * @throws LoginRejectedException BUSY if the pool is saturated
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * @throws LoginRejectedException BUSY if the pool is saturated
+     */
+    public String encode(CharSequence rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> hashTimer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            throw busy();
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private LoginRejectedException busy() {
+        busyRejections.increment();
+        return new LoginRejectedException(LoginRejectedException.Reason.BUSY,
+                "Too many login requests, please try again shortly", 1);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,150 @@
+package edu.uw.cs.zongzewu.employee_management_system.service;
+
+import edu.uw.cs.zongzewu.employee_management_system.entity.RevokedToken;
+import edu.uw.cs.zongzewu.employee_management_system.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * jti of every revoked token that has not expired yet, held in memory so the JWT filter
+ * checks it with a single hash lookup and no query.
+ * Revocations are written to revoked_tokens, every node polls the table for rows revoked by the others,
+ * so a logout applies everywhere within the sync interval. Entries are dropped once the token expires
+ */
+@Slf4j
+@Component
+public class TokenRevocationStore implements MeterBinder {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Duration syncInterval;
+    private final Duration syncOverlap;
+    private final Duration purgeInterval;
+
+    // jti -> expiration in epoch millis
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private LocalDateTime lastSync;
+    private LocalDateTime nextPurge;
+    private ScheduledExecutorService syncs;
+
+    public TokenRevocationStore(RevokedTokenRepository revokedTokenRepository,
+                                @Value("${jwt.revocation.sync-interval:5s}") Duration syncInterval,
+                                @Value("${jwt.revocation.sync-overlap:30s}") Duration syncOverlap,
+                                @Value("${jwt.revocation.purge-interval:10m}") Duration purgeInterval) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.syncInterval = syncInterval;
+        this.syncOverlap = syncOverlap;
+        this.purgeInterval = purgeInterval;
+    }
+
+    /**
+     * load every unexpired revocation, then poll for new ones every sync interval (0 turns polling off)
+     */
+    @PostConstruct
+    public void start() {
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokenRepository.findByExpiresAtAfter(now).forEach(this::add);
+        lastSync = now;
+        nextPurge = now.plus(purgeInterval);
+        log.info("Loaded {} revoked tokens", revoked.size());
+
+        if (!syncInterval.isZero()) {
+            syncs = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "token-revocation-sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = syncInterval.toMillis();
+            syncs.scheduleWithFixedDelay(this::syncQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (syncs != null) {
+            syncs.shutdownNow();
+        }
+    }
+
+    /**
+     * @return true if the token with this jti was revoked, the caller has already rejected expired tokens
+     */
+    public boolean isRevoked(String jti) {
+        return jti != null && revoked.containsKey(jti);
+    }
+
+    /**
+     * revoke on this node right away and store the revocation for the other nodes
+     * @param expiresAt expiration of the token, the entry is kept until then
+     */
+    public void revoke(String jti, Date expiresAt) {
+        if (jti == null || expiresAt == null || expiresAt.before(new Date())) {
+            // nothing to revoke, the token can no longer be used
+            return;
+        }
+        revoked.put(jti, expiresAt.getTime());
+        LocalDateTime expires = LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault());
+        revokedTokenRepository.save(new RevokedToken(jti, expires, LocalDateTime.now()));
+    }
+
+    /**
+     * pick up rows revoked by other nodes and drop expired entries,
+     * rows revoked a little before the last sync are read again in case another node's clock or commit lagged
+     */
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedToken> recent = revokedTokenRepository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(
+                lastSync.minus(syncOverlap), now);
+        recent.forEach(this::add);
+        lastSync = now;
+
+        long nowMillis = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt < nowMillis);
+
+        if (!now.isBefore(nextPurge)) {
+            int purged = revokedTokenRepository.deleteExpired(now);
+            nextPurge = now.plus(purgeInterval);
+            log.debug("Purged {} expired revoked tokens", purged);
+        }
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            // keep polling, the entries already loaded stay in force
+            log.warn("Revoked token sync failed: {}", e.getMessage());
+        }
+    }
+
+    private void add(RevokedToken token) {
+        revoked.put(token.getJti(), token.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("auth.revoked.tokens", revoked, Map::size)
+                .description("Revoked tokens that have not expired yet")
+                .register(registry);
+    }
+}
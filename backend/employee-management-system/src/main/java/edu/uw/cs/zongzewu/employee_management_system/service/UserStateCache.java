@@ -0,0 +1,86 @@
+package edu.uw.cs.zongzewu.employee_management_system.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import edu.uw.cs.zongzewu.employee_management_system.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Enabled flag and authorities per username, read at most once per TTL per user.
+ * The JWT filter checks the role and enabled claims of each access token against it,
+ * so a disabled user or a changed role stops working within the TTL without a query per request.
+ * Changes made through JPA evict the user as soon as they commit (UserStateListener)
+ */
+@Component
+public class UserStateCache implements MeterBinder {
+
+    public static final String NAME = "user-state";
+
+    /**
+     * @param exists false if there is no user with that name
+     */
+    public record UserState(boolean exists, boolean enabled, Set<String> authorities) {
+
+        static final UserState MISSING = new UserState(false, false, Set.of());
+
+        /**
+         * @return true if the user still exists, is enabled and has exactly these authorities
+         */
+        public boolean matches(Collection<String> tokenAuthorities, boolean tokenEnabled) {
+            return exists && enabled && tokenEnabled && authorities.equals(Set.copyOf(tokenAuthorities));
+        }
+    }
+
+    private final LoadingCache<String, UserState> cache;
+
+    public UserStateCache(UserRepository userRepository,
+                          @Value("${jwt.user-state.ttl:5s}") Duration ttl,
+                          @Value("${jwt.user-state.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(username -> userRepository.findByUsername(username)
+                        .map(user -> new UserState(true, user.isEnabled(), user.getAuthorities().stream()
+                                .map(GrantedAuthority::getAuthority)
+                                .collect(Collectors.toUnmodifiableSet())))
+                        .orElse(UserState.MISSING));
+    }
+
+    public UserState get(String username) {
+        return cache.get(username);
+    }
+
+    /**
+     * drop the user after the current transaction commits, right away without one
+     */
+    public void evictAfterCommit(String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(username);
+                }
+            });
+        } else {
+            cache.invalidate(username);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, NAME);
+    }
+}
@@ -0,0 +1,24 @@
+package edu.uw.cs.zongzewu.employee_management_system.service;
+
+import edu.uw.cs.zongzewu.employee_management_system.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * JPA listener on User, evicts the cached state when a user is updated (role, enabled) or deleted
+ * Hibernate creates it through Spring, the field is optional because a JPA test slice may not have the cache
+ */
+public class UserStateListener {
+
+    @Autowired(required = false)
+    private UserStateCache userStateCache;
+
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        if (userStateCache != null) {
+            userStateCache.evictAfterCommit(user.getUsername());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package edu.uw.cs.zongzewu.employee_management_system.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 CSV helpers for employee export/import
+ */
+public final class CsvUtil {
+
+    private CsvUtil() {
+    }
+
+    /**
+     * Write one CSV record followed by CRLF, null values are written as empty fields
+     */
+    public static void writeRow(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value != null) {
+                writer.write(escape(value.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Quote a field if it contains a comma, quote or line break, quotes are doubled
+     */
+    public static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Read the next CSV record, quoted fields may contain commas, doubled quotes and line breaks
+     * @param reader must support mark, e.g. a BufferedReader
+     * @return the fields of the record, or null at end of input
+     * @throws IllegalArgumentException if a quoted field is not closed
+     */
+    public static List<String> readRecord(Reader reader) throws IOException {
+        int c = reader.read();
+        if (c < 0) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c < 0) {
+                    throw new IllegalArgumentException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    c = reader.read();
+                    if (c == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c < 0 || c == '\n') {
+                fields.add(field.toString());
+                return fields;
+            } else if (c == '\r') {
+                // CRLF or a lone CR ends the record, the LF is dropped on the next read
+                reader.mark(1);
+                if (reader.read() != '\n') {
+                    reader.reset();
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+}
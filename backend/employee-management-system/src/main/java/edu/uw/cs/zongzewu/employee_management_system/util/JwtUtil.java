@@ -1,20 +1,43 @@
 package edu.uw.cs.zongzewu.employee_management_system.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
+/**
+ * Issues and verifies the HS256 access/refresh tokens.
+ * The key and the parser are built once and shared, both are thread-safe.
+ * verify() checks the signature and expiration once and returns the claims,
+ * recently verified tokens can be kept in a small cache keyed by the token's SHA-256
+ */
 @Component
 public class JwtUtil {
 
+    /** authorities of the user when the access token was issued, e.g. ["ROLE_ADMIN"] */
+    public static final String AUTHORITIES_CLAIM = "authorities";
+
+    /** enabled flag of the user when the access token was issued */
+    public static final String ENABLED_CLAIM = "enabled";
+
     @Value("${jwt.secret:mySecretKey12345678901234567890}")
     private String secret;
 
@@ -24,8 +47,64 @@ public class JwtUtil {
     @Value("${jwt.refresh-token-expiration:604800000}") // 7 days
     private Long refreshTokenExpiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    // 0 turns the verified token cache off
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheSize;
+
+    @Value("${jwt.verified-cache.ttl:60s}")
+    private Duration verifiedCacheTtl;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+    private Cache<String, Claims> verifiedTokens;
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        verifiedTokens = verifiedCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(verifiedCacheSize).expireAfterWrite(verifiedCacheTtl).build()
+                : null;
+    }
+
+    /**
+     * Verify the signature and expiration of a token and return its claims,
+     * the returned claims may be shared with other callers and must not be modified
+     * @throws ExpiredJwtException if the token has expired
+     * @throws JwtException if the token is malformed or the signature does not match
+     * @throws IllegalArgumentException if the token is null or empty
+     */
+    public Claims verify(String token) {
+        if (verifiedTokens == null || token == null) {
+            return parse(token);
+        }
+        String key = hash(token);
+        Claims claims = verifiedTokens.getIfPresent(key);
+        if (claims == null) {
+            claims = parse(token);
+            verifiedTokens.put(key, claims);
+        } else if (claims.getExpiration() != null && claims.getExpiration().before(new Date())) {
+            // cached before it expired, the parser would reject it now
+            verifiedTokens.invalidate(key);
+            throw new ExpiredJwtException(null, claims, "JWT expired at " + claims.getExpiration());
+        }
+        return claims;
+    }
+
+    private Claims parse(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // every JRE ships SHA-256
+            throw new IllegalStateException(e);
+        }
     }
 
     public String extractUsername(String token) {
@@ -37,24 +116,19 @@ public class JwtUtil {
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return claimsResolver.apply(verify(token));
     }
 
+    /**
+     * access token with the user's authorities and enabled flag as signed claims,
+     * JwtAuthenticationFilter builds the principal from them instead of loading the user
+     */
     public String generateAccessToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
+        claims.put(AUTHORITIES_CLAIM, userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+        claims.put(ENABLED_CLAIM, userDetails.isEnabled());
         return createToken(claims, userDetails.getUsername(), accessTokenExpiration);
     }
 
@@ -68,23 +142,29 @@ public class JwtUtil {
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
+                // jti, the key TokenRevocationStore revokes by
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * @return true if the token is valid and belongs to the user
+     */
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        try {
+            // verify() already rejects expired tokens
+            return verify(token).getSubject().equals(userDetails.getUsername());
+        } catch (JwtException | IllegalArgumentException e) {
+            return false;
+        }
     }
 
     public Boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
+            verify(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -93,10 +173,26 @@ public class JwtUtil {
 
     public Boolean isRefreshToken(String token) {
         try {
-            Claims claims = extractAllClaims(token);
-            return "refresh".equals(claims.get("type"));
-        } catch (Exception e) {
+            return isRefreshToken(verify(token));
+        } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    public boolean isRefreshToken(Claims claims) {
+        return "refresh".equals(claims.get("type"));
+    }
+
+    /**
+     * @return authorities claim, null for refresh tokens and access tokens issued before the claim existed
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> extractAuthorities(Claims claims) {
+        Object authorities = claims.get(AUTHORITIES_CLAIM);
+        return authorities instanceof List<?> list ? (List<String>) list : null;
+    }
+
+    public boolean extractEnabled(Claims claims) {
+        return Boolean.TRUE.equals(claims.get(ENABLED_CLAIM, Boolean.class));
+    }
+}
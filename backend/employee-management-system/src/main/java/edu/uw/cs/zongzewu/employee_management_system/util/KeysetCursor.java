@@ -0,0 +1,108 @@
+package edu.uw.cs.zongzewu.employee_management_system.util;
+
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeDTO;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * Opaque cursor for keyset pagination of employees
+ * Remembers the sort key and the (sortKey, id) of the last row returned,
+ * the next page seeks past it instead of using OFFSET
+ */
+public final class KeysetCursor {
+
+    /**
+     * Only non-null columns can be used as a keyset
+     */
+    public static final Set<String> SORT_FIELDS = Set.of("id", "firstName", "lastName", "email");
+
+    private static final String SEPARATOR = "|";
+
+    private final String sortField;
+    private final Sort.Direction direction;
+    private final Long lastId;       // null on the first page
+    private final String lastValue;  // null on the first page or when sorting by id
+
+    private KeysetCursor(String sortField, Sort.Direction direction, Long lastId, String lastValue) {
+        this.sortField = sortField;
+        this.direction = direction;
+        this.lastId = lastId;
+        this.lastValue = lastValue;
+    }
+
+    /**
+     * Cursor for the first page
+     * @param sort "field" or "field,asc|desc", null means id ascending
+     * @throws IllegalArgumentException if the field can not be used as a keyset
+     */
+    public static KeysetCursor first(String sort) {
+        Sort parsed = PaginationUtil.toSort(sort, SORT_FIELDS);
+        Sort.Order order = parsed.iterator().next();
+        return new KeysetCursor(order.getProperty(), order.getDirection(), null, null);
+    }
+
+    /**
+     * Decode a cursor previously returned as nextCursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // value goes last so that it may contain the separator
+            String[] parts = decoded.split("\\" + SEPARATOR, 4);
+            String sortField = parts[0];
+            if (parts.length != 4 || !SORT_FIELDS.contains(sortField)) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            Sort.Direction direction = Sort.Direction.fromString(parts[1]);
+            Long lastId = Long.valueOf(parts[2]);
+            String lastValue = "id".equals(sortField) ? null : parts[3];
+            return new KeysetCursor(sortField, direction, lastId, lastValue);
+        } catch (IllegalArgumentException e) {
+            // also covers bad base64, NumberFormatException and unknown direction
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Cursor pointing after the given employee, which must be the last row of the current page
+     */
+    public KeysetCursor next(EmployeeDTO last) {
+        String value = switch (sortField) {
+            case "firstName" -> last.getFirstName();
+            case "lastName" -> last.getLastName();
+            case "email" -> last.getEmail();
+            default -> null;
+        };
+        return new KeysetCursor(sortField, direction, last.getId(), value);
+    }
+
+    public String encode() {
+        String raw = sortField + SEPARATOR + direction.name() + SEPARATOR + lastId + SEPARATOR
+                + (lastValue != null ? lastValue : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFirstPage() {
+        return lastId == null;
+    }
+
+    public String getSortField() {
+        return sortField;
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    public Long getLastId() {
+        return lastId;
+    }
+
+    public String getLastValue() {
+        return lastValue;
+    }
+}
@@ -0,0 +1,80 @@
+package edu.uw.cs.zongzewu.employee_management_system.util;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+/**
+ * Builds Pageable objects from the page/size/sort request parameters
+ * shared by every list endpoint
+ */
+public final class PaginationUtil {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    public static final Set<String> EMPLOYEE_SORT_FIELDS = Set.of(
+            "id", "firstName", "lastName", "email", "position",
+            "salary", "hireDate", "status", "createdAt", "updatedAt");
+
+    public static final Set<String> DEPARTMENT_SORT_FIELDS = Set.of(
+            "id", "name", "location", "managerName", "createdAt", "updatedAt");
+
+    private PaginationUtil() {
+    }
+
+    /**
+     * Create a Pageable, size is capped at MAX_PAGE_SIZE
+     * @param page zero based page number
+     * @param size requested page size
+     * @param sort "field" or "field,asc|desc", null means sort by id
+     * @param allowedSortFields whitelist of sortable properties
+     * @return Pageable
+     * @throws IllegalArgumentException if page or size is invalid or sort field is not allowed
+     */
+    public static Pageable toPageable(int page, int size, String sort, Set<String> allowedSortFields) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page index must be greater than or equal to 0");
+        }
+        return PageRequest.of(page, capPageSize(size), toSort(sort, allowedSortFields));
+    }
+
+    /**
+     * Validate a page size and cap it at MAX_PAGE_SIZE
+     * @throws IllegalArgumentException if size is less than 1
+     */
+    public static int capPageSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be greater than 0");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Parse "field" or "field,asc|desc" into a Sort, id is always appended as tie breaker
+     * so that pages are stable
+     */
+    public static Sort toSort(String sort, Set<String> allowedSortFields) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.by(Sort.Direction.ASC, "id");
+        }
+
+        String[] parts = sort.split(",");
+        String property = parts[0].trim();
+        if (!allowedSortFields.contains(property)) {
+            throw new IllegalArgumentException("Invalid sort field: " + property
+                    + ". Valid values are: " + String.join(", ", allowedSortFields));
+        }
+
+        Sort.Direction direction = Sort.Direction.ASC;
+        if (parts.length > 1) {
+            direction = Sort.Direction.fromOptionalString(parts[1].trim())
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid sort direction: " + parts[1].trim()));
+        }
+
+        Sort result = Sort.by(direction, property);
+        return "id".equals(property) ? result : result.and(Sort.by(Sort.Direction.ASC, "id"));
+    }
+}
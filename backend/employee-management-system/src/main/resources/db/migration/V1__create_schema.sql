@@ -0,0 +1,44 @@
+-- =============================================================================
+-- Employee Management System - Initial schema
+-- Mirrors the JPA entities, Hibernate only validates it (ddl-auto: validate)
+-- =============================================================================
+
+-- Departments and employees take ids from pooled sequences, INCREMENT BY must match allocationSize
+CREATE SEQUENCE departments_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE employees_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE users (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username    VARCHAR(50)  NOT NULL UNIQUE,
+    password    VARCHAR(255) NOT NULL,
+    email       VARCHAR(150) NOT NULL UNIQUE,
+    role        VARCHAR(20)  NOT NULL CHECK (role IN ('ADMIN', 'USER')),
+    enabled     BOOLEAN      NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6)
+);
+
+CREATE TABLE departments (
+    id            BIGINT PRIMARY KEY,
+    name          VARCHAR(100) NOT NULL UNIQUE,
+    description   VARCHAR(500),
+    location      VARCHAR(100),
+    manager_name  VARCHAR(100),
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6)
+);
+
+CREATE TABLE employees (
+    id             BIGINT PRIMARY KEY,
+    first_name     VARCHAR(100) NOT NULL,
+    last_name      VARCHAR(100) NOT NULL,
+    email          VARCHAR(150) NOT NULL UNIQUE,
+    phone          VARCHAR(20),
+    position       VARCHAR(100),
+    salary         NUMERIC(10, 2),
+    hire_date      DATE,
+    status         VARCHAR(20) CHECK (status IN ('ACTIVE', 'INACTIVE', 'TERMINATED')),
+    department_id  BIGINT REFERENCES departments (id),
+    created_at     TIMESTAMP(6),
+    updated_at     TIMESTAMP(6)
+);
@@ -0,0 +1,11 @@
+-- =============================================================================
+-- Employee Management System - Substring search indexes
+-- =============================================================================
+
+-- Trigram indexes serve the substring name search,
+-- LOWER(first_name) LIKE '%xxx%' OR LOWER(last_name) LIKE '%xxx%' becomes a BitmapOr of two index scans.
+-- The indexed expressions must stay identical to EmployeeRepository.NAME_CONTAINS
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_employees_first_name_trgm ON employees USING gin (lower(first_name) gin_trgm_ops);
+CREATE INDEX idx_employees_last_name_trgm ON employees USING gin (lower(last_name) gin_trgm_ops);
@@ -0,0 +1,19 @@
+-- =============================================================================
+-- Employee Management System - Indexes for the repository queries
+-- QueryIndexIT checks with EXPLAIN that each query uses the index listed here
+-- =============================================================================
+
+-- /api/employees/department/{id}, countByDepartmentId, findByDepartmentIsNull, department move/merge
+CREATE INDEX idx_employees_department_id ON employees (department_id);
+
+-- /api/employees/status/{status} and status + department filters,
+-- status alone is served by the leading column so there is no separate status index
+CREATE INDEX idx_employees_status_department_id ON employees (status, department_id);
+
+-- sort=hireDate on the employee lists
+CREATE INDEX idx_employees_hire_date ON employees (hire_date);
+
+-- department searches are LOWER(column) LIKE '%xxx%', same as the employee name search
+CREATE INDEX idx_departments_name_trgm ON departments USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX idx_departments_location_trgm ON departments USING gin (lower(location) gin_trgm_ops);
+CREATE INDEX idx_departments_manager_name_trgm ON departments USING gin (lower(manager_name) gin_trgm_ops);
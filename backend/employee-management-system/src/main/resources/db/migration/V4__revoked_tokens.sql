@@ -0,0 +1,16 @@
+-- =============================================================================
+-- Employee Management System - Revoked tokens
+-- Loaded into memory by TokenRevocationStore, rows are deleted once the token has expired
+-- =============================================================================
+
+CREATE TABLE revoked_tokens (
+    jti         VARCHAR(36)  PRIMARY KEY,
+    expires_at  TIMESTAMP(6) NOT NULL,
+    revoked_at  TIMESTAMP(6) NOT NULL
+);
+
+-- every node polls for rows revoked since its last sync
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
+
+-- expired rows are purged on each sync
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
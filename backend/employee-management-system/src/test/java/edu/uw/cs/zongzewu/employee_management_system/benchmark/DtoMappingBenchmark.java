@@ -0,0 +1,149 @@
+package edu.uw.cs.zongzewu.employee_management_system.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.uw.cs.zongzewu.employee_management_system.config.WebConfig;
+import edu.uw.cs.zongzewu.employee_management_system.dto.ApiResponse;
+import edu.uw.cs.zongzewu.employee_management_system.dto.DepartmentDTO;
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeDTO;
+import edu.uw.cs.zongzewu.employee_management_system.dto.UpdateEmployeeRequest;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Department;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning employees into a response body, for lists of 1, 100 and 10,000 employees
+ * map* is entity to DTO only, serialize* is the WebConfig ObjectMapper on DTOs already mapped,
+ * mapAndSerializeApiResponse is the whole path of a list endpoint
+ * Throughput per list, allocation per list is gc.alloc.rate.norm from the gc profiler (on in the default jmh.args)
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="DtoMappingBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<Employee> employees;
+    private Department department;
+    private List<EmployeeDTO> dtos;
+    private UpdateEmployeeRequest update;
+
+    @Setup
+    public void setUp() {
+        // objectMapper() does not touch the interceptor
+        objectMapper = new WebConfig(null).objectMapper();
+
+        List<Department> departments = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            departments.add(department(id));
+        }
+        employees = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            Employee employee = employee(id, departments.get((int) (id % departments.size())));
+            employees.add(employee);
+        }
+
+        // one department holding every employee, fromEntity maps them all
+        department = department(100L);
+        department.setEmployees(employees);
+
+        dtos = employees.stream().map(EmployeeDTO::fromEntity).toList();
+
+        update = new UpdateEmployeeRequest();
+        update.setPosition("Senior Engineer");
+        update.setSalary(new BigDecimal("98000.00"));
+        update.setStatus(Employee.EmployeeStatus.ACTIVE);
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> mapEmployees() {
+        return employees.stream().map(EmployeeDTO::fromEntity).toList();
+    }
+
+    @Benchmark
+    public DepartmentDTO mapDepartment() {
+        return DepartmentDTO.fromEntity(department);
+    }
+
+    @Benchmark
+    public DepartmentDTO mapDepartmentSimple() {
+        return DepartmentDTO.fromEntitySimple(department);
+    }
+
+    @Benchmark
+    public List<Employee> applyUpdate() {
+        for (Employee employee : employees) {
+            update.applyToEntity(employee);
+        }
+        return employees;
+    }
+
+    @Benchmark
+    public byte[] serializeEmployees() throws Exception {
+        return objectMapper.writeValueAsBytes(dtos);
+    }
+
+    @Benchmark
+    public byte[] serializeApiResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(ApiResponse.success("Employees retrieved successfully", dtos));
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeApiResponse() throws Exception {
+        List<EmployeeDTO> mapped = employees.stream().map(EmployeeDTO::fromEntity).toList();
+        return objectMapper.writeValueAsBytes(ApiResponse.success("Employees retrieved successfully", mapped));
+    }
+
+    private static Department department(long id) {
+        Department department = new Department();
+        department.setId(id);
+        department.setName("Department " + id);
+        department.setDescription("Benchmark department " + id);
+        department.setLocation("Seattle");
+        department.setManagerName("Manager " + id);
+        department.setCreatedAt(LocalDateTime.of(2024, 1, 1, 9, 0));
+        department.setUpdatedAt(LocalDateTime.of(2024, 6, 1, 9, 0));
+        department.setEmployees(new ArrayList<>());
+        return department;
+    }
+
+    private static Employee employee(long id, Department department) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setFirstName("First" + id);
+        employee.setLastName("Last" + id);
+        employee.setEmail("employee" + id + "@company.com");
+        employee.setPhone("+1 206 555 " + (1000 + id % 9000));
+        employee.setPosition("Engineer");
+        employee.setSalary(BigDecimal.valueOf(60_000 + id % 50_000, 0).setScale(2));
+        employee.setHireDate(LocalDate.of(2020, 1, 1).plusDays(id % 1500));
+        employee.setStatus(id % 10 == 0 ? Employee.EmployeeStatus.INACTIVE : Employee.EmployeeStatus.ACTIVE);
+        employee.setDepartment(department);
+        employee.setCreatedAt(LocalDateTime.of(2024, 1, 1, 9, 0).plusMinutes(id));
+        employee.setUpdatedAt(LocalDateTime.of(2024, 6, 1, 9, 0).plusMinutes(id));
+        return employee;
+    }
+}
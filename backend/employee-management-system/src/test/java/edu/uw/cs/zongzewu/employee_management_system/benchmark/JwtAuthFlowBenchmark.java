@@ -0,0 +1,120 @@
+package edu.uw.cs.zongzewu.employee_management_system.benchmark;
+
+import edu.uw.cs.zongzewu.employee_management_system.dto.AuthResponse;
+import edu.uw.cs.zongzewu.employee_management_system.entity.User;
+import edu.uw.cs.zongzewu.employee_management_system.repository.RevokedTokenRepository;
+import edu.uw.cs.zongzewu.employee_management_system.repository.UserRepository;
+import edu.uw.cs.zongzewu.employee_management_system.service.AuthService;
+import edu.uw.cs.zongzewu.employee_management_system.service.PasswordHashingExecutor;
+import edu.uw.cs.zongzewu.employee_management_system.service.TokenRevocationStore;
+import edu.uw.cs.zongzewu.employee_management_system.util.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Baseline for the token paths of login, every authenticated request and /api/auth/refresh
+ * One JwtUtil and one AuthService are shared by all threads, as in the application,
+ * verifiedCacheSize 0 parses every token, 10000 is the default cache with the token already verified
+ * JwtAuthFlowBenchmark runs single-threaded, JwtAuthFlowBenchmark.Contended on every core
+ * refreshToken is AuthService.refreshToken with UserRepository stubbed, so no database time is included
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="JwtAuthFlowBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class JwtAuthFlowBenchmark {
+
+    @Threads(Threads.MAX)
+    public static class Contended extends JwtAuthFlowBenchmark {
+    }
+
+    @Param({"0", "10000"})
+    private long verifiedCacheSize;
+
+    private JwtUtil jwtUtil;
+    private AuthService authService;
+    private User user;
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = JwtVerificationBenchmark.jwtUtil(verifiedCacheSize);
+
+        user = new User();
+        user.setId(1L);
+        user.setUsername("benchmark");
+        user.setPassword("unused");
+        user.setEmail("benchmark@company.com");
+        user.setRole(User.Role.ADMIN);
+        user.setEnabled(true);
+
+        // stubOnly, a normal mock keeps every invocation and would grow for the whole run
+        UserRepository userRepository = mock(UserRepository.class, withSettings().stubOnly());
+        when(userRepository.findByUsername("benchmark")).thenReturn(Optional.of(user));
+        // never started, nothing is revoked and no sync thread runs
+        TokenRevocationStore tokenRevocationStore = new TokenRevocationStore(
+                mock(RevokedTokenRepository.class, withSettings().stubOnly()),
+                Duration.ofSeconds(5), Duration.ofSeconds(30), Duration.ofMinutes(10));
+        // login collaborators are not used by refreshToken, the hashing stub only serves the placeholder hash
+        authService = new AuthService(userRepository,
+                mock(PasswordHashingExecutor.class, withSettings().stubOnly()), null, jwtUtil, tokenRevocationStore);
+
+        accessToken = jwtUtil.generateAccessToken(user);
+        refreshToken = jwtUtil.generateRefreshToken(user);
+        jwtUtil.verify(accessToken);
+        jwtUtil.verify(refreshToken);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtUtil.generateRefreshToken(user);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtUtil.extractUsername(accessToken);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(accessToken, user);
+    }
+
+    @Benchmark
+    public Boolean isRefreshToken() {
+        return jwtUtil.isRefreshToken(refreshToken);
+    }
+
+    @Benchmark
+    public AuthResponse refreshToken() {
+        return authService.refreshToken(refreshToken);
+    }
+}
@@ -0,0 +1,94 @@
+package edu.uw.cs.zongzewu.employee_management_system.benchmark;
+
+import edu.uw.cs.zongzewu.employee_management_system.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating one request in JwtAuthenticationFilter
+ * legacyFilterPath is the old extractUsername + validateToken sequence: three parses, each building a new key and parser
+ * singleParse is JwtUtil.verify with the cache off, cachedVerify with the cache on and the token already verified
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="JwtVerificationBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    static final String SECRET = "benchmarkSecretKey123456789012345678901234567890123456789012345678901234567890";
+
+    private JwtUtil uncached;
+    private JwtUtil cached;
+    private UserDetails user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncached = jwtUtil(0);
+        cached = jwtUtil(1000);
+        user = User.withUsername("benchmark").password("unused").authorities(List.of()).build();
+        token = uncached.generateAccessToken(user);
+        cached.verify(token);
+    }
+
+    @Benchmark
+    public boolean legacyFilterPath() {
+        String username = legacyClaims(token).getSubject();
+        return legacyClaims(token).getSubject().equals(user.getUsername())
+                && username.equals(user.getUsername())
+                && !legacyClaims(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean singleParse() {
+        return uncached.verify(token).getSubject().equals(user.getUsername());
+    }
+
+    @Benchmark
+    public boolean cachedVerify() {
+        return cached.verify(token).getSubject().equals(user.getUsername());
+    }
+
+    private static Claims legacyClaims(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    static JwtUtil jwtUtil(long cacheSize) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", 604_800_000L);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheSize", cacheSize);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheTtl", Duration.ofMinutes(1));
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
@@ -0,0 +1,81 @@
+package edu.uw.cs.zongzewu.employee_management_system.config;
+
+import edu.uw.cs.zongzewu.employee_management_system.entity.User;
+import edu.uw.cs.zongzewu.employee_management_system.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdminBootstrapTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    @DisplayName("Should create the ADMIN account when none exists and a password is configured")
+    void run_NoAdmin_ShouldCreateAdmin() {
+        when(userRepository.existsByRole(User.Role.ADMIN)).thenReturn(false);
+        when(passwordEncoder.encode("s3cret-admin")).thenReturn("hashed");
+
+        bootstrap("s3cret-admin").run(null);
+
+        ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).save(saved.capture());
+        assertEquals("admin", saved.getValue().getUsername());
+        assertEquals("hashed", saved.getValue().getPassword());
+        assertEquals("admin@company.com", saved.getValue().getEmail());
+        assertEquals(User.Role.ADMIN, saved.getValue().getRole());
+        assertTrue(saved.getValue().isEnabled());
+    }
+
+    @Test
+    @DisplayName("Should leave the users alone once an ADMIN exists")
+    void run_AdminExists_ShouldDoNothing() {
+        when(userRepository.existsByRole(User.Role.ADMIN)).thenReturn(true);
+
+        bootstrap("s3cret-admin").run(null);
+
+        verify(userRepository, never()).save(any());
+        verify(passwordEncoder, never()).encode(any());
+    }
+
+    @Test
+    @DisplayName("Should not create an ADMIN without a configured password")
+    void run_NoPassword_ShouldDoNothing() {
+        when(userRepository.existsByRole(User.Role.ADMIN)).thenReturn(false);
+
+        bootstrap("").run(null);
+
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should not promote an account that already holds the admin username")
+    void run_UsernameTaken_ShouldDoNothing() {
+        when(userRepository.existsByRole(User.Role.ADMIN)).thenReturn(false);
+        when(userRepository.existsByUsername("admin")).thenReturn(true);
+
+        bootstrap("s3cret-admin").run(null);
+
+        verify(userRepository, never()).save(any());
+    }
+
+    private AdminBootstrap bootstrap(String password) {
+        return new AdminBootstrap(userRepository, passwordEncoder, "admin", password, "admin@company.com");
+    }
+}
@@ -0,0 +1,52 @@
+package edu.uw.cs.zongzewu.employee_management_system.config;
+
+import edu.uw.cs.zongzewu.employee_management_system.dto.ApiResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ApiResponseMetricsAdviceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ApiResponseMetricsAdvice advice = new ApiResponseMetricsAdvice(meterRegistry);
+
+    @Test
+    @DisplayName("outcome - Should read the success flag of ApiResponse and Map bodies")
+    void outcome_ShouldReadSuccessFlag() {
+        assertEquals("success", ApiResponseMetricsAdvice.outcome(ApiResponse.success("ok")));
+        assertEquals("failure", ApiResponseMetricsAdvice.outcome(ApiResponse.notFound("Employee")));
+        assertEquals("failure", ApiResponseMetricsAdvice.outcome(Map.of("success", false, "message", "bad")));
+        assertEquals("none", ApiResponseMetricsAdvice.outcome("plain"));
+        assertEquals("none", ApiResponseMetricsAdvice.outcome(null));
+    }
+
+    @Test
+    @DisplayName("beforeBodyWrite - Should count by route template, status and outcome")
+    void beforeBodyWrite_ShouldCountResponse() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees/42");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/employees/{id}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(404);
+
+        advice.beforeBodyWrite(ApiResponse.notFound("Employee"), null, MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class,
+                new ServletServerHttpRequest(request), new ServletServerHttpResponse(response));
+
+        assertEquals(1.0, meterRegistry.get(ApiResponseMetricsAdvice.METRIC)
+                .tag("uri", "/api/employees/{id}")
+                .tag("status", "404")
+                .tag("outcome", "failure")
+                .counter().count());
+    }
+}
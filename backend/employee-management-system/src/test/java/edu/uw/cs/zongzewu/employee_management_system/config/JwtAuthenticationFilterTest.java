@@ -0,0 +1,137 @@
+package edu.uw.cs.zongzewu.employee_management_system.config;
+
+import edu.uw.cs.zongzewu.employee_management_system.entity.User;
+import edu.uw.cs.zongzewu.employee_management_system.service.CustomUserDetailsService;
+import edu.uw.cs.zongzewu.employee_management_system.service.TokenRevocationStore;
+import edu.uw.cs.zongzewu.employee_management_system.service.UserStateCache;
+import edu.uw.cs.zongzewu.employee_management_system.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    @Mock
+    private UserStateCache userStateCache;
+
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter filter;
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret",
+                "testSecretKey123456789012345678901234567890123456789012345678901234567890");
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", 604_800_000L);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheSize", 0L);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheTtl", Duration.ofMinutes(1));
+        jwtUtil.init();
+
+        filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService, userStateCache, tokenRevocationStore);
+        ReflectionTestUtils.setField(filter, "statelessAuth", true);
+
+        admin = new User();
+        admin.setUsername("admin");
+        admin.setPassword("encoded");
+        admin.setRole(User.Role.ADMIN);
+        admin.setEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should authenticate from the token claims without loading the user")
+    void shouldAuthenticateFromClaims() throws Exception {
+        when(userStateCache.get("admin")).thenReturn(state(true, "ROLE_ADMIN"));
+
+        Authentication authentication = filter(jwtUtil.generateAccessToken(admin));
+
+        assertEquals("admin", authentication.getName());
+        assertEquals(List.of("ROLE_ADMIN"), authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority).toList());
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject the token of a user disabled since it was issued")
+    void shouldRejectDisabledUser() throws Exception {
+        when(userStateCache.get("admin")).thenReturn(state(false, "ROLE_ADMIN"));
+
+        assertNull(filter(jwtUtil.generateAccessToken(admin)));
+    }
+
+    @Test
+    @DisplayName("Should reject the token of a user whose role changed since it was issued")
+    void shouldRejectChangedRole() throws Exception {
+        when(userStateCache.get("admin")).thenReturn(state(true, "ROLE_USER"));
+
+        assertNull(filter(jwtUtil.generateAccessToken(admin)));
+    }
+
+    @Test
+    @DisplayName("Should load the user for a token without the authorities claim")
+    void shouldLoadUserWithoutClaims() throws Exception {
+        when(userDetailsService.loadUserByUsername("admin")).thenReturn(admin);
+
+        Authentication authentication = filter(jwtUtil.generateRefreshToken(admin));
+
+        assertEquals(admin, authentication.getPrincipal());
+        verify(userStateCache, never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject a revoked token before looking at the user")
+    void shouldRejectRevokedToken() throws Exception {
+        String token = jwtUtil.generateAccessToken(admin);
+        when(tokenRevocationStore.isRevoked(jwtUtil.verify(token).getId())).thenReturn(true);
+
+        assertNull(filter(token));
+        verify(userStateCache, never()).get(anyString());
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    private Authentication filter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static UserStateCache.UserState state(boolean enabled, String authority) {
+        return new UserStateCache.UserState(true, enabled, Set.of(authority));
+    }
+}
@@ -0,0 +1,48 @@
+package edu.uw.cs.zongzewu.employee_management_system.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class MetricsScrapeTokenFilterTest {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should grant ROLE_METRICS for the scrape token on the scrape path")
+    void shouldAuthenticateScraper() throws Exception {
+        Authentication authentication = filter(new MetricsScrapeTokenFilter("scrape-secret"),
+                MetricsScrapeTokenFilter.SCRAPE_PATH, "scrape-secret");
+
+        assertEquals("prometheus", authentication.getName());
+        assertEquals("ROLE_METRICS", authentication.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    @DisplayName("Should ignore a wrong token, another path or an unset token")
+    void shouldIgnoreOtherRequests() throws Exception {
+        assertNull(filter(new MetricsScrapeTokenFilter("scrape-secret"), MetricsScrapeTokenFilter.SCRAPE_PATH, "wrong"));
+        assertNull(filter(new MetricsScrapeTokenFilter("scrape-secret"), "/actuator/metrics", "scrape-secret"));
+        assertNull(filter(new MetricsScrapeTokenFilter(""), MetricsScrapeTokenFilter.SCRAPE_PATH, ""));
+    }
+
+    private static Authentication filter(MetricsScrapeTokenFilter filter, String path, String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,200 @@
+package edu.uw.cs.zongzewu.employee_management_system.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Two H2 databases stand in for the primary and a replica, each knows its own name
+ * the replica runs the default lag query, its pg_* recovery functions are aliases of ReplicaState below
+ */
+class ReadReplicaRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = new ReadReplicaProperties().getLagQuery();
+
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+    private ReadReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        DataSource replica = h2("replica");
+        primaryJdbc = new JdbcTemplate(primary);
+        replicaJdbc = new JdbcTemplate(replica);
+        for (JdbcTemplate jdbc : List.of(primaryJdbc, replicaJdbc)) {
+            jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        }
+        primaryJdbc.update("INSERT INTO node VALUES ('primary')");
+        replicaJdbc.update("INSERT INTO node VALUES ('replica')");
+        String functions = ReplicaState.class.getName();
+        replicaJdbc.execute("CREATE ALIAS pg_is_in_recovery FOR '" + functions + ".isInRecovery'");
+        replicaJdbc.execute("CREATE ALIAS pg_last_wal_receive_lsn FOR '" + functions + ".receiveLsn'");
+        replicaJdbc.execute("CREATE ALIAS pg_last_wal_replay_lsn FOR '" + functions + ".replayLsn'");
+        replicaJdbc.execute("CREATE ALIAS pg_last_xact_replay_timestamp FOR '" + functions + ".replayTimestamp'");
+        ReplicaState.caughtUp(OffsetDateTime.now());
+
+        routing = new ReadReplicaRoutingDataSource(primary, Map.of("replica-0", replica),
+                Duration.ofMillis(300), LAG_QUERY, Duration.ofSeconds(10));
+        routing.checkReplicas();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primaryJdbc.execute("DROP ALL OBJECTS");
+        replicaJdbc.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to the replica and the others to the primary")
+    void shouldRouteByReadOnlyFlag() {
+        assertEquals("replica", readOnly.execute(status -> node()));
+        assertEquals("primary", readWrite.execute(status -> node()));
+        assertEquals("primary", node());
+    }
+
+    @Test
+    @DisplayName("Should keep a user on the primary for the sticky window after a write")
+    void shouldStickToPrimaryAfterWrite() throws InterruptedException {
+        login("alice");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO node VALUES ('written')"));
+
+        assertEquals(2, (int) readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM node", Integer.class)));
+        login("bob");
+        assertEquals("replica", readOnly.execute(status -> node()));
+
+        Thread.sleep(500);
+        login("alice");
+        assertEquals(1, (int) readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM node", Integer.class)));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary while the replica lags too far")
+    void shouldSkipLaggingReplica() {
+        // WAL received but not replayed, the last replayed transaction is a minute old
+        ReplicaState.behind(OffsetDateTime.now().minusSeconds(60));
+        routing.checkReplicas();
+
+        assertEquals(List.of(), routing.getHealthyReplicas());
+        assertEquals("primary", readOnly.execute(status -> node()));
+
+        ReplicaState.behind(OffsetDateTime.now().minusSeconds(1));
+        routing.checkReplicas();
+
+        assertEquals(List.of("replica-0"), routing.getHealthyReplicas());
+        assertEquals("replica", readOnly.execute(status -> node()));
+    }
+
+    @Test
+    @DisplayName("Should keep a caught-up replica while the primary is idle")
+    void shouldKeepIdleCaughtUpReplica() {
+        // no write on the primary for 10 minutes, everything received has been replayed
+        ReplicaState.caughtUp(OffsetDateTime.now().minusMinutes(10));
+        routing.checkReplicas();
+
+        assertEquals(List.of("replica-0"), routing.getHealthyReplicas());
+        assertEquals("replica", readOnly.execute(status -> node()));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when the replica cannot be reached")
+    void shouldSkipUnreachableReplica() {
+        JdbcDataSource missing = new JdbcDataSource();
+        missing.setURL("jdbc:h2:mem:missing;IFEXISTS=TRUE");
+        ReadReplicaRoutingDataSource unreachable = new ReadReplicaRoutingDataSource(routingPrimary(),
+                Map.of("replica-0", missing), Duration.ofSeconds(5), LAG_QUERY, Duration.ofSeconds(10));
+        unreachable.checkReplicas();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(unreachable);
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(true);
+
+        assertEquals(List.of(), unreachable.getHealthyReplicas());
+        assertEquals("primary", transaction.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class)));
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private DataSource routingPrimary() {
+        return primaryJdbc.getDataSource();
+    }
+
+    private static void login(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+
+    /**
+     * recovery state the replica's pg_* aliases report
+     */
+    public static class ReplicaState {
+        private static volatile String receiveLsn;
+        private static volatile String replayLsn;
+        private static volatile OffsetDateTime replayTimestamp;
+
+        static void caughtUp(OffsetDateTime lastReplayed) {
+            receiveLsn = "0/3000060";
+            replayLsn = "0/3000060";
+            replayTimestamp = lastReplayed;
+        }
+
+        static void behind(OffsetDateTime lastReplayed) {
+            receiveLsn = "0/3000060";
+            replayLsn = "0/3000028";
+            replayTimestamp = lastReplayed;
+        }
+
+        public static boolean isInRecovery() {
+            return true;
+        }
+
+        public static String receiveLsn() {
+            return receiveLsn;
+        }
+
+        public static String replayLsn() {
+            return replayLsn;
+        }
+
+        public static OffsetDateTime replayTimestamp() {
+            return replayTimestamp;
+        }
+    }
+
+    private static DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-routing;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+}
@@ -0,0 +1,117 @@
+package edu.uw.cs.zongzewu.employee_management_system.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SqlMonitorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SqlMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new SqlMonitor(meterRegistry, Duration.ofMillis(100), 3, 10, List.of("salary", "email", "password"));
+    }
+
+    @Test
+    @DisplayName("normalize - Should collapse whitespace and IN lists of any length")
+    void normalize_ShouldGiveOneShape() {
+        assertEquals("select * from employees e where e.id in (?...)",
+                SqlMonitor.normalize("select *\n  from employees e\n where e.id in (?, ?,?)"));
+        assertEquals(SqlMonitor.normalize("delete from employees where id in (?)"),
+                SqlMonitor.normalize("delete from employees where id in (?,?,?,?)"));
+    }
+
+    @Test
+    @DisplayName("placeholderColumns - Should find the column of each placeholder")
+    void placeholderColumns_ShouldReadColumns() {
+        assertEquals(Arrays.asList("first_name", "email", "salary", "id"), SqlMonitor.placeholderColumns(
+                "insert into employees (first_name,email,salary,id) values (?,?,?,?)"));
+        assertEquals(Arrays.asList("salary", "email", "id"), SqlMonitor.placeholderColumns(
+                "update employees set salary=?, email=? where id=?"));
+        assertEquals(Arrays.asList("email", "first_name"), SqlMonitor.placeholderColumns(
+                "select e.id from employees e where lower(e.email)=? or lower(e.first_name) like lower(?)"));
+    }
+
+    @Test
+    @DisplayName("N+1 - Should report a statement repeated within one request with redacted binds")
+    void end_ShouldReportRepeatedStatement() throws Exception {
+        monitor.begin("DepartmentController#getAllDepartments");
+        for (long id = 1; id <= 4; id++) {
+            execute("select * from employees e where e.department_id=? and e.email=?", 2, id, "a@company.com");
+        }
+        execute("select count(*) from departments", 1);
+        monitor.end();
+
+        SqlMonitor.Report report = monitor.getReport();
+        assertEquals(1, report.findings().size());
+        SqlMonitor.Finding finding = report.findings().get(0);
+        assertEquals(SqlMonitor.FindingType.N_PLUS_ONE, finding.type());
+        assertEquals("DepartmentController#getAllDepartments", finding.handler());
+        assertEquals(4, finding.executions());
+        assertEquals(8, finding.durationMs());
+        assertEquals(Arrays.asList(1L, SqlMonitor.REDACTED), finding.binds());
+
+        SqlMonitor.HandlerStats stats = report.handlers().get(0);
+        assertEquals(1, stats.requests());
+        assertEquals(5, stats.statements());
+        assertEquals(1.0, meterRegistry.get("app.sql.findings").tag("type", "n_plus_one").counter().count());
+    }
+
+    @Test
+    @DisplayName("Slow - Should report a slow statement even outside a request and mask salary")
+    void afterQuery_ShouldReportSlowStatement() throws Exception {
+        execute("update employees set salary=?, position=? where id=?", 150, new BigDecimal("90000"), "Lead", 7L);
+
+        SqlMonitor.Finding finding = monitor.getReport().findings().get(0);
+        assertEquals(SqlMonitor.FindingType.SLOW, finding.type());
+        assertEquals(SqlMonitor.NO_REQUEST, finding.handler());
+        assertEquals(150, finding.durationMs());
+        assertEquals(Arrays.asList(SqlMonitor.REDACTED, "Lead", 7L), finding.binds());
+        assertTrue(monitor.getReport().handlers().isEmpty());
+    }
+
+    @Test
+    @DisplayName("reset - Should keep at most max-findings and clear everything on reset")
+    void findings_ShouldBeBounded() throws Exception {
+        for (int i = 0; i < 15; i++) {
+            execute("select " + i, 200);
+        }
+        assertEquals(10, monitor.getReport().findings().size());
+        assertEquals("select 14", monitor.getReport().findings().get(0).sql());
+
+        monitor.reset();
+
+        assertTrue(monitor.getReport().findings().isEmpty());
+    }
+
+    private void execute(String sql, long elapsedMs, Object... binds) throws Exception {
+        QueryInfo query = new QueryInfo(sql);
+        List<ParameterSetOperation> parameters = new ArrayList<>();
+        for (int i = 0; i < binds.length; i++) {
+            parameters.add(new ParameterSetOperation(
+                    PreparedStatement.class.getMethod("setObject", int.class, Object.class),
+                    new Object[]{i + 1, binds[i]}));
+        }
+        query.getParametersList().add(parameters);
+        ExecutionInfo execution = new ExecutionInfo();
+        execution.setElapsedTime(elapsedMs);
+        monitor.afterQuery(execution, List.of(query));
+    }
+}
@@ -2,8 +2,10 @@ package edu.uw.cs.zongzewu.employee_management_system.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import edu.uw.cs.zongzewu.employee_management_system.dto.CreateDepartmentRequest;
+import edu.uw.cs.zongzewu.employee_management_system.dto.DepartmentDTO;
 import edu.uw.cs.zongzewu.employee_management_system.dto.UpdateDepartmentRequest;
 import edu.uw.cs.zongzewu.employee_management_system.entity.Department;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Employee;
 import edu.uw.cs.zongzewu.employee_management_system.service.DepartmentService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +14,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -23,6 +28,8 @@ import java.util.Optional;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -69,18 +76,38 @@ class DepartmentControllerTest {
     @DisplayName("Get all departments - Success")
     void getAllDepartments_Success() throws Exception {
         // Given
-        List<Department> departments = Arrays.asList(testDepartment);
-        when(departmentService.getAllDepartments()).thenReturn(departments);
+        List<DepartmentDTO> departments = Arrays.asList(DepartmentDTO.fromEntitySimple(testDepartment));
+        when(departmentService.getDepartmentSummaries(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(departments, PageRequest.of(0, 20), departments.size()));
 
         // When & Then
         mockMvc.perform(get("/api/departments")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data", hasSize(1)))
-                .andExpect(jsonPath("$.data[0].name").value("Engineering"))
-                .andExpect(jsonPath("$.data[0].location").value("Seattle, WA"))
-                .andExpect(jsonPath("$.data[0].managerName").value("John Manager"));
+                .andExpect(jsonPath("$.data.content", hasSize(1)))
+                .andExpect(jsonPath("$.data.content[0].name").value("Engineering"))
+                .andExpect(jsonPath("$.data.content[0].location").value("Seattle, WA"))
+                .andExpect(jsonPath("$.data.content[0].managerName").value("John Manager"));
+    }
+
+    @Test
+    @DisplayName("Get all departments with employees included - Success")
+    void getAllDepartments_IncludeEmployees_Success() throws Exception {
+        // Given
+        List<Department> departments = Arrays.asList(testDepartment);
+        when(departmentService.getAllDepartments(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(departments, PageRequest.of(0, 20), departments.size()));
+
+        // When & Then
+        mockMvc.perform(get("/api/departments")
+                        .param("includeEmployees", "true")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", hasSize(1)))
+                .andExpect(jsonPath("$.data.content[0].name").value("Engineering"));
+
+        verify(departmentService, never()).getDepartmentSummaries(any(Pageable.class));
     }
 
     @Test
@@ -201,12 +228,53 @@ class DepartmentControllerTest {
                 .andExpect(jsonPath("$.message").value("Department deleted successfully"));
     }
 
+    @Test
+    @DisplayName("Move employees to another department - Success")
+    void moveEmployees_Success() throws Exception {
+        // Given
+        when(departmentService.moveEmployees(1L, 2L, Employee.EmployeeStatus.ACTIVE, null)).thenReturn(42);
+
+        // When & Then
+        mockMvc.perform(post("/api/departments/1/move-employees")
+                        .param("targetDepartmentId", "2")
+                        .param("status", "ACTIVE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(42))
+                .andExpect(jsonPath("$.message").value("Moved 42 employees from department 1 to department 2"));
+    }
+
+    @Test
+    @DisplayName("Merge department - Same department")
+    void mergeDepartment_SameDepartment() throws Exception {
+        // Given
+        when(departmentService.mergeDepartment(1L, 1L))
+                .thenThrow(new IllegalArgumentException("Source and target department must be different"));
+
+        // When & Then
+        mockMvc.perform(post("/api/departments/1/merge-into/1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Source and target department must be different"));
+    }
+
+    @Test
+    @DisplayName("Merge department - Not Found")
+    void mergeDepartment_NotFound() throws Exception {
+        // Given
+        when(departmentService.mergeDepartment(1L, 999L)).thenThrow(new RuntimeException("Department not found: 999"));
+
+        // When & Then
+        mockMvc.perform(post("/api/departments/1/merge-into/999"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Department not found: 999"));
+    }
+
     @Test
     @DisplayName("Search departments by name - Success")
     void searchDepartmentsByName_Success() throws Exception {
         // Given
-        List<Department> departments = Arrays.asList(testDepartment);
-        when(departmentService.searchDepartmentsByName("Engineering")).thenReturn(departments);
+        List<DepartmentDTO> departments = Arrays.asList(DepartmentDTO.fromEntitySimple(testDepartment));
+        when(departmentService.searchDepartmentsByName(eq("Engineering"), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(departments, PageRequest.of(0, 20), departments.size()));
 
         // When & Then
         mockMvc.perform(get("/api/departments/search/name")
@@ -214,16 +282,17 @@ class DepartmentControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data", hasSize(1)))
-                .andExpect(jsonPath("$.data[0].name").value("Engineering"));
+                .andExpect(jsonPath("$.data.content", hasSize(1)))
+                .andExpect(jsonPath("$.data.content[0].name").value("Engineering"));
     }
 
     @Test
     @DisplayName("Search departments by location - Success")
     void searchDepartmentsByLocation_Success() throws Exception {
         // Given
-        List<Department> departments = Arrays.asList(testDepartment);
-        when(departmentService.searchDepartmentsByLocation("Seattle")).thenReturn(departments);
+        List<DepartmentDTO> departments = Arrays.asList(DepartmentDTO.fromEntitySimple(testDepartment));
+        when(departmentService.searchDepartmentsByLocation(eq("Seattle"), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(departments, PageRequest.of(0, 20), departments.size()));
 
         // When & Then
         mockMvc.perform(get("/api/departments/search/location")
@@ -231,16 +300,17 @@ class DepartmentControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data", hasSize(1)))
-                .andExpect(jsonPath("$.data[0].location").value("Seattle, WA"));
+                .andExpect(jsonPath("$.data.content", hasSize(1)))
+                .andExpect(jsonPath("$.data.content[0].location").value("Seattle, WA"));
     }
 
     @Test
     @DisplayName("Search departments by manager - Success")
     void searchDepartmentsByManager_Success() throws Exception {
         // Given
-        List<Department> departments = Arrays.asList(testDepartment);
-        when(departmentService.searchDepartmentsByManager("John")).thenReturn(departments);
+        List<DepartmentDTO> departments = Arrays.asList(DepartmentDTO.fromEntitySimple(testDepartment));
+        when(departmentService.searchDepartmentsByManager(eq("John"), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(departments, PageRequest.of(0, 20), departments.size()));
 
         // When & Then
         mockMvc.perform(get("/api/departments/search/manager")
@@ -248,38 +318,40 @@ class DepartmentControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data", hasSize(1)))
-                .andExpect(jsonPath("$.data[0].managerName").value("John Manager"));
+                .andExpect(jsonPath("$.data.content", hasSize(1)))
+                .andExpect(jsonPath("$.data.content[0].managerName").value("John Manager"));
     }
 
     @Test
     @DisplayName("Get departments with employees - Success")
     void getDepartmentsWithEmployees_Success() throws Exception {
         // Given
-        List<Department> departments = Arrays.asList(testDepartment);
-        when(departmentService.getDepartmentsWithEmployees()).thenReturn(departments);
+        List<DepartmentDTO> departments = Arrays.asList(DepartmentDTO.fromEntitySimple(testDepartment));
+        when(departmentService.getDepartmentsWithEmployees(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(departments, PageRequest.of(0, 20), departments.size()));
 
         // When & Then
         mockMvc.perform(get("/api/departments/with-employees")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data", hasSize(1)));
+                .andExpect(jsonPath("$.data.content", hasSize(1)));
     }
 
     @Test
     @DisplayName("Get empty departments - Success")
     void getEmptyDepartments_Success() throws Exception {
         // Given
-        List<Department> departments = Arrays.asList(testDepartment);
-        when(departmentService.getEmptyDepartments()).thenReturn(departments);
+        List<DepartmentDTO> departments = Arrays.asList(DepartmentDTO.fromEntitySimple(testDepartment));
+        when(departmentService.getEmptyDepartments(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(departments, PageRequest.of(0, 20), departments.size()));
 
         // When & Then
         mockMvc.perform(get("/api/departments/empty")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data", hasSize(1)));
+                .andExpect(jsonPath("$.data.content", hasSize(1)));
     }
 
     @Test
@@ -2,23 +2,42 @@ package edu.uw.cs.zongzewu.employee_management_system.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import edu.uw.cs.zongzewu.employee_management_system.dto.BulkStatusUpdateRequest;
 import edu.uw.cs.zongzewu.employee_management_system.dto.CreateEmployeeRequest;
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeBatchResult;
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeDTO;
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeFilter;
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeImportResult;
 import edu.uw.cs.zongzewu.employee_management_system.dto.UpdateEmployeeRequest;
 import edu.uw.cs.zongzewu.employee_management_system.entity.Department;
 import edu.uw.cs.zongzewu.employee_management_system.entity.Employee;
+import edu.uw.cs.zongzewu.employee_management_system.service.EmployeeExportService;
+import edu.uw.cs.zongzewu.employee_management_system.service.EmployeeImportService;
 import edu.uw.cs.zongzewu.employee_management_system.service.EmployeeService;
+import edu.uw.cs.zongzewu.employee_management_system.util.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -26,6 +45,8 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -43,6 +64,12 @@ class EmployeeControllerTest {
     @Mock
     private EmployeeService employeeService;
 
+    @Mock
+    private EmployeeExportService employeeExportService;
+
+    @Mock
+    private EmployeeImportService employeeImportService;
+
     @InjectMocks
     private EmployeeController employeeController;
 
@@ -94,8 +121,9 @@ class EmployeeControllerTest {
     @DisplayName("GET /api/employees - Should return all employees successfully")
     void getAllEmployees_ShouldReturnAllEmployees_WhenCalled() throws Exception {
         // Given
-        List<Employee> employees = Arrays.asList(testEmployee);
-        when(employeeService.getAllEmployees()).thenReturn(employees);
+        List<EmployeeDTO> employees = Arrays.asList(EmployeeDTO.fromEntity(testEmployee));
+        when(employeeService.getAllEmployees(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(employees, PageRequest.of(0, 20), employees.size()));
 
         // When & Then
         mockMvc.perform(get("/api/employees")
@@ -103,18 +131,97 @@ class EmployeeControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("Success"))
-                .andExpect(jsonPath("$.data", hasSize(1)))
-                .andExpect(jsonPath("$.data[0].id").value(1))
-                .andExpect(jsonPath("$.data[0].firstName").value("John"))
-                .andExpect(jsonPath("$.data[0].lastName").value("Doe"))
-                .andExpect(jsonPath("$.data[0].email").value("john.doe@company.com"))
-                .andExpect(jsonPath("$.data[0].department.name").value("Engineering"));
+                .andExpect(jsonPath("$.data.content", hasSize(1)))
+                .andExpect(jsonPath("$.data.content[0].id").value(1))
+                .andExpect(jsonPath("$.data.content[0].firstName").value("John"))
+                .andExpect(jsonPath("$.data.content[0].lastName").value("Doe"))
+                .andExpect(jsonPath("$.data.content[0].email").value("john.doe@company.com"))
+                .andExpect(jsonPath("$.data.content[0].department.name").value("Engineering"));
 
         // Verify service method was called exactly once
-        verify(employeeService, times(1)).getAllEmployees();
+        verify(employeeService, times(1)).getAllEmployees(any(Pageable.class));
         verifyNoMoreInteractions(employeeService);
     }
 
+    @Test
+    @DisplayName("GET /api/employees?page&size&sort - Should cap page size and pass sort to service")
+    void getAllEmployees_ShouldCapPageSize_WhenSizeTooLarge() throws Exception {
+        // Given
+        when(employeeService.getAllEmployees(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(EmployeeDTO.fromEntity(testEmployee)), PageRequest.of(2, 100), 201));
+
+        // When & Then
+        mockMvc.perform(get("/api/employees")
+                        .param("page", "2")
+                        .param("size", "5000")
+                        .param("sort", "lastName,desc")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.page").value(2))
+                .andExpect(jsonPath("$.data.size").value(100))
+                .andExpect(jsonPath("$.data.totalElements").value(201))
+                .andExpect(jsonPath("$.data.last").value(true));
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(employeeService).getAllEmployees(pageableCaptor.capture());
+        Pageable pageable = pageableCaptor.getValue();
+        assertEquals(2, pageable.getPageNumber());
+        assertEquals(100, pageable.getPageSize());
+        assertEquals(Sort.by(Sort.Direction.DESC, "lastName").and(Sort.by("id")), pageable.getSort());
+    }
+
+    @Test
+    @DisplayName("GET /api/employees?cursor= - Should return nextCursor instead of total count")
+    void getAllEmployees_ShouldReturnNextCursor_WhenCursorModeUsed() throws Exception {
+        // Given
+        when(employeeService.scrollEmployees(any(EmployeeFilter.class), any(KeysetCursor.class), eq(1)))
+                .thenReturn(new SliceImpl<>(List.of(EmployeeDTO.fromEntity(testEmployee)), PageRequest.of(0, 1), true));
+
+        // When & Then
+        mockMvc.perform(get("/api/employees")
+                        .param("cursor", "")
+                        .param("size", "1")
+                        .param("sort", "lastName")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", hasSize(1)))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").value(KeysetCursor.first("lastName").next(EmployeeDTO.fromEntity(testEmployee)).encode()))
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+
+        ArgumentCaptor<KeysetCursor> cursorCaptor = ArgumentCaptor.forClass(KeysetCursor.class);
+        verify(employeeService).scrollEmployees(eq(EmployeeFilter.all()), cursorCaptor.capture(), eq(1));
+        assertTrue(cursorCaptor.getValue().isFirstPage());
+        assertEquals("lastName", cursorCaptor.getValue().getSortField());
+        verify(employeeService, never()).getAllEmployees(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("GET /api/employees/status/{status}?cursor=xxx - Should seek past the cursor position")
+    void getEmployeesByStatus_ShouldSeekPastCursor_WhenCursorGiven() throws Exception {
+        // Given
+        String cursor = KeysetCursor.first("lastName,desc").next(EmployeeDTO.fromEntity(testEmployee)).encode();
+        when(employeeService.scrollEmployees(any(EmployeeFilter.class), any(KeysetCursor.class), eq(20)))
+                .thenReturn(new SliceImpl<EmployeeDTO>(List.of(), PageRequest.of(0, 20), false));
+
+        // When & Then
+        mockMvc.perform(get("/api/employees/status/ACTIVE")
+                        .param("cursor", cursor)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", hasSize(0)))
+                .andExpect(jsonPath("$.data.hasNext").value(false))
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+
+        ArgumentCaptor<KeysetCursor> cursorCaptor = ArgumentCaptor.forClass(KeysetCursor.class);
+        verify(employeeService).scrollEmployees(
+                eq(EmployeeFilter.byStatus(Employee.EmployeeStatus.ACTIVE)), cursorCaptor.capture(), eq(20));
+        KeysetCursor position = cursorCaptor.getValue();
+        assertEquals(Sort.Direction.DESC, position.getDirection());
+        assertEquals(1L, position.getLastId());
+        assertEquals("Doe", position.getLastValue());
+    }
+
     @Test
     @DisplayName("GET /api/employees/{id} - Should return employee by ID successfully")
     void getEmployeeById_ShouldReturnEmployee_WhenEmployeeExists() throws Exception {
@@ -211,6 +318,110 @@ class EmployeeControllerTest {
         verify(employeeService, never()).createEmployee(any(Employee.class), any());
     }
 
+    @Test
+    @DisplayName("POST /api/employees/batch - Should return 207 with per item errors on partial failure")
+    void createEmployees_ShouldReturnMultiStatus_WhenSomeItemsFail() throws Exception {
+        // Given
+        CreateEmployeeRequest valid = new CreateEmployeeRequest();
+        valid.setFirstName("John");
+        valid.setLastName("Doe");
+        valid.setEmail("john.doe@company.com");
+        CreateEmployeeRequest invalid = new CreateEmployeeRequest();
+        invalid.setFirstName("Jane");
+        invalid.setLastName("Doe");
+        invalid.setEmail("invalid-email");
+
+        EmployeeBatchResult batchResult = new EmployeeBatchResult();
+        batchResult.setTotalItems(2);
+        batchResult.setCreated(List.of(EmployeeDTO.fromEntity(testEmployee)));
+        batchResult.addError(1, "invalid-email", "email: Email has to be valid");
+        when(employeeService.createEmployees(anyList())).thenReturn(batchResult);
+
+        // When & Then
+        mockMvc.perform(post("/api/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(valid, invalid))))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.message").value("Created 1 of 2 employees"))
+                .andExpect(jsonPath("$.data.created", hasSize(1)))
+                .andExpect(jsonPath("$.data.errors[0].index").value(1))
+                .andExpect(jsonPath("$.data.errors[0].error").value("email: Email has to be valid"));
+
+        verify(employeeService).createEmployees(argThat(requests -> requests.size() == 2));
+    }
+
+    @Test
+    @DisplayName("POST /api/employees/batch - Should return 400 when the batch is too large")
+    void createEmployees_ShouldReturnBadRequest_WhenBatchTooLarge() throws Exception {
+        // Given
+        when(employeeService.createEmployees(anyList()))
+                .thenThrow(new IllegalArgumentException("Batch cannot contain more than 1000 employees"));
+
+        // When & Then
+        mockMvc.perform(post("/api/employees/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{}]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Batch cannot contain more than 1000 employees"));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/employees/status - Should update status of many employees")
+    void updateEmployeesStatus_ShouldReturnAffectedCount() throws Exception {
+        // Given
+        when(employeeService.updateEmployeeStatus(List.of(1L, 2L, 3L), Employee.EmployeeStatus.TERMINATED)).thenReturn(2);
+
+        // When & Then
+        mockMvc.perform(patch("/api/employees/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new BulkStatusUpdateRequest(List.of(1L, 2L, 3L), Employee.EmployeeStatus.TERMINATED))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(2))
+                .andExpect(jsonPath("$.message").value("Employee status updated to TERMINATED for 2 employees"));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/employees/status - Should return validation error when ids are missing")
+    void updateEmployeesStatus_ShouldReturnValidationError_WhenIdsMissing() throws Exception {
+        mockMvc.perform(patch("/api/employees/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"INACTIVE\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("ids: Employee ids are required"));
+
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    @DisplayName("PATCH /api/employees/status/filter - Should update status of matching employees")
+    void updateEmployeesStatusByFilter_ShouldPassFilter() throws Exception {
+        // Given
+        EmployeeFilter filter = new EmployeeFilter(Employee.EmployeeStatus.ACTIVE, 1L, null);
+        when(employeeService.updateEmployeeStatus(filter, Employee.EmployeeStatus.INACTIVE)).thenReturn(4);
+
+        // When & Then
+        mockMvc.perform(patch("/api/employees/status/filter")
+                        .param("status", "INACTIVE")
+                        .param("currentStatus", "ACTIVE")
+                        .param("departmentId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(4));
+    }
+
+    @Test
+    @DisplayName("DELETE /api/employees?ids= - Should delete many employees")
+    void deleteEmployees_ShouldReturnDeletedCount() throws Exception {
+        // Given
+        when(employeeService.deleteEmployees(List.of(1L, 2L))).thenReturn(2);
+
+        // When & Then
+        mockMvc.perform(delete("/api/employees").param("ids", "1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Deleted 2 employees"))
+                .andExpect(jsonPath("$.data").value(2));
+    }
+
     @Test
     @DisplayName("PUT /api/employees/{id} - Should update employee successfully")
     void updateEmployee_ShouldUpdateEmployee_WhenValidData() throws Exception {
@@ -298,8 +509,9 @@ class EmployeeControllerTest {
     @DisplayName("GET /api/employees/department/{departmentId} - Should return employees by department")
     void getEmployeesByDepartment_ShouldReturnEmployees_WhenDepartmentExists() throws Exception {
         // Given
-        List<Employee> employees = Arrays.asList(testEmployee);
-        when(employeeService.getEmployeesByDepartment(1L)).thenReturn(employees);
+        List<EmployeeDTO> employees = Arrays.asList(EmployeeDTO.fromEntity(testEmployee));
+        when(employeeService.getEmployeesByDepartment(eq(1L), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(employees, PageRequest.of(0, 20), employees.size()));
 
         // When & Then
         mockMvc.perform(get("/api/employees/department/1")
@@ -307,18 +519,89 @@ class EmployeeControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("Found 1 employees in department 1"))
-                .andExpect(jsonPath("$.data", hasSize(1)))
-                .andExpect(jsonPath("$.data[0].department.name").value("Engineering"));
+                .andExpect(jsonPath("$.data.content", hasSize(1)))
+                .andExpect(jsonPath("$.data.content[0].department.name").value("Engineering"));
+
+        verify(employeeService, times(1)).getEmployeesByDepartment(eq(1L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("GET /api/employees/export - Should stream the export with the list filters")
+    void exportEmployees_ShouldStreamCsv_WhenFormatIsCsv() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(2);
+            out.write("id,firstName\r\n1,John\r\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(employeeExportService).export(any(EmployeeFilter.class), eq(EmployeeExportService.Format.CSV), any(OutputStream.class));
+
+        // When & Then
+        MvcResult result = mockMvc.perform(get("/api/employees/export")
+                        .param("format", "csv")
+                        .param("status", "ACTIVE")
+                        .param("departmentId", "1")
+                        .param("name", " John "))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"employees.csv\""))
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().string("id,firstName\r\n1,John\r\n"));
+
+        verify(employeeExportService).export(
+                eq(new EmployeeFilter(Employee.EmployeeStatus.ACTIVE, 1L, "John")),
+                eq(EmployeeExportService.Format.CSV),
+                any(OutputStream.class));
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    @DisplayName("POST /api/employees/import - Should return imported count and row errors")
+    void importEmployees_ShouldReturnResult_WhenFileUploaded() throws Exception {
+        // Given
+        EmployeeImportResult importResult = new EmployeeImportResult();
+        importResult.setTotalRows(2);
+        importResult.setImportedRows(1);
+        importResult.addError(2, "bad", "email: Email has to be valid");
+        when(employeeImportService.importCsv(any(InputStream.class))).thenReturn(importResult);
+
+        MockMultipartFile file = new MockMultipartFile("file", "employees.csv", "text/csv",
+                "firstName,lastName,email\r\nJohn,Doe,john@company.com\r\nJane,Doe,bad\r\n"
+                        .getBytes(StandardCharsets.UTF_8));
+
+        // When & Then
+        mockMvc.perform(multipart("/api/employees/import").file(file))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Imported 1 of 2 rows"))
+                .andExpect(jsonPath("$.data.failedRows").value(1))
+                .andExpect(jsonPath("$.data.errors[0].row").value(2))
+                .andExpect(jsonPath("$.data.errors[0].email").value("bad"));
+    }
+
+    @Test
+    @DisplayName("POST /api/employees/import - Should return 400 when the header is invalid")
+    void importEmployees_ShouldReturnBadRequest_WhenHeaderInvalid() throws Exception {
+        // Given
+        when(employeeImportService.importCsv(any(InputStream.class)))
+                .thenThrow(new IllegalArgumentException("Missing required columns: email"));
+        MockMultipartFile file = new MockMultipartFile("file", "employees.csv", "text/csv",
+                "firstName,lastName\r\n".getBytes(StandardCharsets.UTF_8));
 
-        verify(employeeService, times(1)).getEmployeesByDepartment(1L);
+        // When & Then
+        mockMvc.perform(multipart("/api/employees/import").file(file))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Missing required columns: email"));
     }
 
     @Test
     @DisplayName("GET /api/employees/status/{status} - Should return employees by status")
     void getEmployeesByStatus_ShouldReturnEmployees_WhenStatusValid() throws Exception {
         // Given
-        List<Employee> activeEmployees = Arrays.asList(testEmployee);
-        when(employeeService.getEmployeesByStatus(Employee.EmployeeStatus.ACTIVE)).thenReturn(activeEmployees);
+        List<EmployeeDTO> activeEmployees = Arrays.asList(EmployeeDTO.fromEntity(testEmployee));
+        when(employeeService.getEmployeesByStatus(eq(Employee.EmployeeStatus.ACTIVE), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(activeEmployees, PageRequest.of(0, 20), activeEmployees.size()));
 
         // When & Then
         mockMvc.perform(get("/api/employees/status/ACTIVE")
@@ -326,18 +609,19 @@ class EmployeeControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("Found 1 employees with status ACTIVE"))
-                .andExpect(jsonPath("$.data", hasSize(1)))
-                .andExpect(jsonPath("$.data[0].status").value("ACTIVE"));
+                .andExpect(jsonPath("$.data.content", hasSize(1)))
+                .andExpect(jsonPath("$.data.content[0].status").value("ACTIVE"));
 
-        verify(employeeService, times(1)).getEmployeesByStatus(Employee.EmployeeStatus.ACTIVE);
+        verify(employeeService, times(1)).getEmployeesByStatus(eq(Employee.EmployeeStatus.ACTIVE), any(Pageable.class));
     }
 
     @Test
     @DisplayName("GET /api/employees/search?name=xxx - Should return employees matching search")
     void searchEmployees_ShouldReturnEmployees_WhenNameMatches() throws Exception {
         // Given
-        List<Employee> searchResults = Arrays.asList(testEmployee);
-        when(employeeService.searchEmployeesByName("John")).thenReturn(searchResults);
+        List<EmployeeDTO> searchResults = Arrays.asList(EmployeeDTO.fromEntity(testEmployee));
+        when(employeeService.searchEmployeesByName(eq("John"), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(searchResults, PageRequest.of(0, 20), searchResults.size()));
 
         // When & Then
         mockMvc.perform(get("/api/employees/search")
@@ -346,10 +630,10 @@ class EmployeeControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("Found 1 employees matching 'John'"))
-                .andExpect(jsonPath("$.data", hasSize(1)))
-                .andExpect(jsonPath("$.data[0].firstName").value("John"));
+                .andExpect(jsonPath("$.data.content", hasSize(1)))
+                .andExpect(jsonPath("$.data.content[0].firstName").value("John"));
 
-        verify(employeeService, times(1)).searchEmployeesByName("John");
+        verify(employeeService, times(1)).searchEmployeesByName(eq("John"), any(Pageable.class));
     }
 
     @Test
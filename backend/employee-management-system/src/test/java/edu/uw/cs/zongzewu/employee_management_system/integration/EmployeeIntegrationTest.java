@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.annotation.DirtiesContext;
@@ -33,6 +34,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @ActiveProfiles("test") // Use test profile
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 @Transactional
+@Import(QueryBudgetConfig.class)
 class EmployeeIntegrationTest {
 
     @Autowired
@@ -47,6 +49,10 @@ class EmployeeIntegrationTest {
     @Autowired
     private DepartmentRepository departmentRepository;
 
+    // statement budget per request, fails the build when an endpoint starts loading rows one by one
+    @Autowired
+    private QueryCounter queries;
+
     private Department testDepartment;
 
     @BeforeEach
@@ -81,10 +87,10 @@ class EmployeeIntegrationTest {
         createRequest.setDepartmentId(testDepartment.getId());
 
         // Create employee
-        String createResponse = mockMvc.perform(post("/api/employees")
+        String createResponse = queries.atMost(4, () -> mockMvc.perform(post("/api/employees")
                         .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON)
-                        .content(objectMapper.writeValueAsString(createRequest)))
+                        .content(objectMapper.writeValueAsString(createRequest))))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.firstName").value("Integration"))
@@ -96,8 +102,8 @@ class EmployeeIntegrationTest {
                 .get("data").get("id").asLong();
 
         // 2. Get Employee Details
-        mockMvc.perform(get("/api/employees/" + employeeId)
-                        .contentType(MediaType.APPLICATION_JSON))
+        queries.atMost(2, () -> mockMvc.perform(get("/api/employees/" + employeeId)
+                        .contentType(MediaType.APPLICATION_JSON)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.firstName").value("Integration"))
@@ -109,57 +115,57 @@ class EmployeeIntegrationTest {
         updateRequest.setPosition("Senior Test Engineer");
         updateRequest.setSalary(new BigDecimal("80000.00"));
 
-        mockMvc.perform(put("/api/employees/" + employeeId)
+        queries.atMost(4, () -> mockMvc.perform(put("/api/employees/" + employeeId)
                         .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON)
-                        .content(objectMapper.writeValueAsString(updateRequest)))
+                        .content(objectMapper.writeValueAsString(updateRequest))))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.firstName").value("Updated Integration"))
                 .andExpect(jsonPath("$.data.position").value("Senior Test Engineer"));
 
         // 4. Search Employees
-        mockMvc.perform(get("/api/employees/search")
+        queries.atMost(2, () -> mockMvc.perform(get("/api/employees/search")
                         .param("name", "Updated")
-                        .contentType(MediaType.APPLICATION_JSON))
+                        .contentType(MediaType.APPLICATION_JSON)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data", hasSize(1)))
-                .andExpect(jsonPath("$.data[0].firstName").value("Updated Integration"));
+                .andExpect(jsonPath("$.data.content", hasSize(1)))
+                .andExpect(jsonPath("$.data.content[0].firstName").value("Updated Integration"));
 
         // 5. Get Employees by Department
-        mockMvc.perform(get("/api/employees/department/" + testDepartment.getId())
-                        .contentType(MediaType.APPLICATION_JSON))
+        queries.atMost(2, () -> mockMvc.perform(get("/api/employees/department/" + testDepartment.getId())
+                        .contentType(MediaType.APPLICATION_JSON)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data", hasSize(1)));
+                .andExpect(jsonPath("$.data.content", hasSize(1)));
 
         // 6. Update Employee Status
-        mockMvc.perform(patch("/api/employees/" + employeeId + "/status")
+        queries.atMost(3, () -> mockMvc.perform(patch("/api/employees/" + employeeId + "/status")
                         .with(csrf())
                         .param("status", "INACTIVE")
-                        .contentType(MediaType.APPLICATION_JSON))
+                        .contentType(MediaType.APPLICATION_JSON)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.status").value("INACTIVE"));
 
         // 7. Get Employees by Status
-        mockMvc.perform(get("/api/employees/status/INACTIVE")
-                        .contentType(MediaType.APPLICATION_JSON))
+        queries.atMost(2, () -> mockMvc.perform(get("/api/employees/status/INACTIVE")
+                        .contentType(MediaType.APPLICATION_JSON)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data", hasSize(1)));
+                .andExpect(jsonPath("$.data.content", hasSize(1)));
 
         // 8. Delete Employee
-        mockMvc.perform(delete("/api/employees/" + employeeId)
+        queries.atMost(2, () -> mockMvc.perform(delete("/api/employees/" + employeeId)
                         .with(csrf())
-                        .contentType(MediaType.APPLICATION_JSON))
+                        .contentType(MediaType.APPLICATION_JSON)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true));
 
         // 9. Verify employee deleted
-        mockMvc.perform(get("/api/employees/" + employeeId)
-                        .contentType(MediaType.APPLICATION_JSON))
+        queries.atMost(1, () -> mockMvc.perform(get("/api/employees/" + employeeId)
+                        .contentType(MediaType.APPLICATION_JSON)))
                 .andExpect(status().isNotFound());
     }
 
@@ -177,10 +183,10 @@ class EmployeeIntegrationTest {
         request1.setDepartmentId(testDepartment.getId());
 
         // Create the first employee
-        mockMvc.perform(post("/api/employees")
+        queries.atMost(4, () -> mockMvc.perform(post("/api/employees")
                         .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON)
-                        .content(objectMapper.writeValueAsString(request1)))
+                        .content(objectMapper.writeValueAsString(request1))))
                 .andExpect(status().isCreated());
 
         // Try to create an employee with the same email
@@ -192,10 +198,10 @@ class EmployeeIntegrationTest {
         request2.setSalary(new BigDecimal("60000"));
         request2.setDepartmentId(testDepartment.getId());
 
-        mockMvc.perform(post("/api/employees")
+        queries.atMost(2, () -> mockMvc.perform(post("/api/employees")
                         .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON)
-                        .content(objectMapper.writeValueAsString(request2)))
+                        .content(objectMapper.writeValueAsString(request2))))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.success").value(false))
                 .andExpect(jsonPath("$.message").value("Failed to create employee"));
@@ -209,10 +215,10 @@ class EmployeeIntegrationTest {
         request3.setSalary(new BigDecimal("55000"));
         request3.setDepartmentId(9999L); // Non-existent department ID
 
-        mockMvc.perform(post("/api/employees")
+        queries.atMost(2, () -> mockMvc.perform(post("/api/employees")
                         .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON)
-                        .content(objectMapper.writeValueAsString(request3)))
+                        .content(objectMapper.writeValueAsString(request3))))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.success").value(false));
     }
@@ -230,10 +236,10 @@ class EmployeeIntegrationTest {
         createRequest.setSalary(new BigDecimal("65000"));
         createRequest.setDepartmentId(testDepartment.getId());
 
-        String response = mockMvc.perform(post("/api/employees")
+        String response = queries.atMost(4, () -> mockMvc.perform(post("/api/employees")
                         .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON)
-                        .content(objectMapper.writeValueAsString(createRequest)))
+                        .content(objectMapper.writeValueAsString(createRequest))))
                 .andExpect(status().isCreated())
                 .andReturn().getResponse().getContentAsString();
 
@@ -247,8 +253,8 @@ class EmployeeIntegrationTest {
         assert savedEmployee.getDepartment().getId().equals(testDepartment.getId());
 
         // Verify department employee count
-        mockMvc.perform(get("/api/employees/count/department/" + testDepartment.getId())
-                        .contentType(MediaType.APPLICATION_JSON))
+        queries.atMost(1, () -> mockMvc.perform(get("/api/employees/count/department/" + testDepartment.getId())
+                        .contentType(MediaType.APPLICATION_JSON)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data").value(1));
     }
@@ -258,8 +264,8 @@ class EmployeeIntegrationTest {
     @WithMockUser(roles = "USER") // USER role
     void testPermissionControl() throws Exception {
         // USER role can view employees
-        mockMvc.perform(get("/api/employees")
-                        .contentType(MediaType.APPLICATION_JSON))
+        queries.atMost(2, () -> mockMvc.perform(get("/api/employees")
+                        .contentType(MediaType.APPLICATION_JSON)))
                 .andExpect(status().isOk());
 
         // But cannot create employees
@@ -271,10 +277,10 @@ class EmployeeIntegrationTest {
         createRequest.setSalary(new BigDecimal("60000"));
         createRequest.setDepartmentId(testDepartment.getId()); // Added department ID for a more complete request
 
-        mockMvc.perform(post("/api/employees")
+        queries.atMost(0, () -> mockMvc.perform(post("/api/employees")
                         .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON)
-                        .content(objectMapper.writeValueAsString(createRequest)))
+                        .content(objectMapper.writeValueAsString(createRequest))))
                 .andExpect(status().isForbidden());
     }
 }
\ No newline at end of file
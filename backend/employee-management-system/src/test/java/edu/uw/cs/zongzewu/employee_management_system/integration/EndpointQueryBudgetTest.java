@@ -0,0 +1,283 @@
+package edu.uw.cs.zongzewu.employee_management_system.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.uw.cs.zongzewu.employee_management_system.dto.BulkStatusUpdateRequest;
+import edu.uw.cs.zongzewu.employee_management_system.dto.CreateDepartmentRequest;
+import edu.uw.cs.zongzewu.employee_management_system.dto.CreateEmployeeRequest;
+import edu.uw.cs.zongzewu.employee_management_system.dto.UpdateDepartmentRequest;
+import edu.uw.cs.zongzewu.employee_management_system.dto.UpdateEmployeeRequest;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Department;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Employee;
+import edu.uw.cs.zongzewu.employee_management_system.repository.DepartmentRepository;
+import edu.uw.cs.zongzewu.employee_management_system.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Statement budget for every endpoint covered by EmployeeControllerTest and DepartmentControllerTest,
+ * those mock the services so they cannot see SQL, here the same calls run against H2.
+ * Several departments with several employees each are seeded so a per-row lazy load
+ * (DTO fromEntity touching department/employees) goes over the budget
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@Transactional
+@Import(QueryBudgetConfig.class)
+@WithMockUser(roles = "ADMIN")
+class EndpointQueryBudgetTest {
+
+    private static final int DEPARTMENTS = 4;
+    private static final int EMPLOYEES_PER_DEPARTMENT = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private QueryCounter queries;
+
+    private List<Department> departments;
+    private List<Employee> employees;
+
+    @BeforeEach
+    void setUp() {
+        departments = new ArrayList<>();
+        employees = new ArrayList<>();
+        for (int d = 0; d < DEPARTMENTS; d++) {
+            Department department = new Department();
+            department.setName("Budget " + d);
+            department.setLocation("Floor " + d);
+            department.setManagerName("Manager " + d);
+            departments.add(departmentRepository.save(department));
+            for (int i = 0; i < EMPLOYEES_PER_DEPARTMENT; i++) {
+                Employee employee = new Employee();
+                employee.setFirstName("First" + d + i);
+                employee.setLastName("Last" + d + i);
+                employee.setEmail("budget" + d + i + "@company.com");
+                employee.setPosition("Engineer");
+                employee.setStatus(Employee.EmployeeStatus.ACTIVE);
+                employee.setDepartment(department);
+                employees.add(employeeRepository.save(employee));
+            }
+        }
+        Department empty = new Department();
+        empty.setName("Budget empty");
+        departments.add(departmentRepository.save(empty));
+
+        // requests must load what they need from the database, not from the test's persistence context
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Employee read endpoints - Should stay within a fixed statement budget")
+    void employeeReads() throws Exception {
+        Long departmentId = departments.get(0).getId();
+
+        queries.atMost(2, () -> mockMvc.perform(get("/api/employees").param("size", "10")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", hasSize(10)));
+        queries.atMost(2, () -> mockMvc.perform(get("/api/employees/" + employees.get(0).getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.department.name").value("Budget 0"));
+        queries.atMost(1, () -> mockMvc.perform(get("/api/employees/999999")))
+                .andExpect(status().isNotFound());
+        queries.atMost(2, () -> mockMvc.perform(get("/api/employees/department/" + departmentId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", hasSize(EMPLOYEES_PER_DEPARTMENT)));
+        queries.atMost(2, () -> mockMvc.perform(get("/api/employees/status/ACTIVE").param("size", "10")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", hasSize(10)));
+        queries.atMost(2, () -> mockMvc.perform(get("/api/employees/search").param("name", "first")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", hasSize(DEPARTMENTS * EMPLOYEES_PER_DEPARTMENT)));
+        queries.atMost(1, () -> mockMvc.perform(get("/api/employees/count/department/" + departmentId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(EMPLOYEES_PER_DEPARTMENT));
+    }
+
+    @Test
+    @DisplayName("Employee write endpoints - Should stay within a fixed statement budget")
+    void employeeWrites() throws Exception {
+        Long departmentId = departments.get(0).getId();
+        Long employeeId = employees.get(0).getId();
+
+        queries.atMost(4, () -> mockMvc.perform(post("/api/employees")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest("single", departmentId)))))
+                .andExpect(status().isCreated());
+
+        // departments and taken emails are looked up once for the batch, inserts go as one JDBC batch
+        List<CreateEmployeeRequest> batch = IntStream.range(0, 10)
+                .mapToObj(i -> createRequest("batch" + i, departments.get(i % DEPARTMENTS).getId()))
+                .collect(Collectors.toList());
+        queries.atMost(4, () -> mockMvc.perform(post("/api/employees/batch")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch))))
+                .andExpect(status().isCreated());
+
+        UpdateEmployeeRequest updateRequest = new UpdateEmployeeRequest();
+        updateRequest.setPosition("Lead");
+        updateRequest.setDepartmentId(departments.get(1).getId());
+        queries.atMost(4, () -> mockMvc.perform(put("/api/employees/" + employeeId)
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest))))
+                .andExpect(status().isOk());
+
+        queries.atMost(3, () -> mockMvc.perform(patch("/api/employees/" + employeeId + "/status")
+                        .with(csrf())
+                        .param("status", "INACTIVE")))
+                .andExpect(status().isOk());
+
+        BulkStatusUpdateRequest bulkRequest = new BulkStatusUpdateRequest();
+        bulkRequest.setIds(employees.subList(1, 10).stream().map(Employee::getId).collect(Collectors.toList()));
+        bulkRequest.setStatus(Employee.EmployeeStatus.INACTIVE);
+        queries.atMost(1, () -> mockMvc.perform(patch("/api/employees/status")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulkRequest))))
+                .andExpect(status().isOk());
+
+        queries.atMost(1, () -> mockMvc.perform(patch("/api/employees/status/filter")
+                        .with(csrf())
+                        .param("status", "TERMINATED")
+                        .param("departmentId", String.valueOf(departments.get(2).getId()))))
+                .andExpect(status().isOk());
+
+        queries.atMost(1, () -> mockMvc.perform(delete("/api/employees")
+                        .with(csrf())
+                        .param("ids", employees.subList(10, 15).stream()
+                                .map(employee -> String.valueOf(employee.getId()))
+                                .toArray(String[]::new))))
+                .andExpect(status().isOk());
+
+        queries.atMost(2, () -> mockMvc.perform(delete("/api/employees/" + employees.get(15).getId())
+                        .with(csrf())))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Department read endpoints - Should stay within a fixed statement budget")
+    void departmentReads() throws Exception {
+        Long departmentId = departments.get(0).getId();
+
+        queries.atMost(2, () -> mockMvc.perform(get("/api/departments")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", hasSize(DEPARTMENTS + 1)));
+        // employees of the whole page come in one batch fetch, not one query per department
+        queries.atMost(3, () -> mockMvc.perform(get("/api/departments").param("includeEmployees", "true")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", hasSize(DEPARTMENTS + 1)));
+        queries.atMost(2, () -> mockMvc.perform(get("/api/departments/" + departmentId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.employees", hasSize(EMPLOYEES_PER_DEPARTMENT)));
+        queries.atMost(2, () -> mockMvc.perform(get("/api/departments/" + departmentId)
+                        .param("includeEmployees", "false")))
+                .andExpect(status().isOk());
+        queries.atMost(2, () -> mockMvc.perform(get("/api/departments/search/name").param("name", "budget")))
+                .andExpect(status().isOk());
+        queries.atMost(2, () -> mockMvc.perform(get("/api/departments/search/location").param("location", "floor")))
+                .andExpect(status().isOk());
+        queries.atMost(2, () -> mockMvc.perform(get("/api/departments/search/manager").param("manager", "manager")))
+                .andExpect(status().isOk());
+        queries.atMost(2, () -> mockMvc.perform(get("/api/departments/with-employees")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", hasSize(DEPARTMENTS)));
+        queries.atMost(2, () -> mockMvc.perform(get("/api/departments/empty")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", hasSize(1)));
+        queries.atMost(2, () -> mockMvc.perform(get("/api/departments/" + departmentId + "/employee-count")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(EMPLOYEES_PER_DEPARTMENT));
+        queries.atMost(1, () -> mockMvc.perform(get("/api/departments/" + departmentId + "/exists")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Department write endpoints - Should stay within a fixed statement budget")
+    void departmentWrites() throws Exception {
+        CreateDepartmentRequest createRequest = new CreateDepartmentRequest();
+        createRequest.setName("Budget new");
+        queries.atMost(3, () -> mockMvc.perform(post("/api/departments")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest))))
+                .andExpect(status().isCreated());
+
+        UpdateDepartmentRequest updateRequest = new UpdateDepartmentRequest();
+        updateRequest.setName("Budget renamed");
+        // the response counts employees through the lazy collection, one query for the whole collection
+        queries.atMost(4, () -> mockMvc.perform(put("/api/departments/" + departments.get(0).getId())
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest))))
+                .andExpect(status().isOk());
+
+        // exists + target lookup + one UPDATE, whatever the number of employees moved
+        queries.atMost(3, () -> mockMvc.perform(post("/api/departments/" + departments.get(0).getId() + "/move-employees")
+                        .with(csrf())
+                        .param("targetDepartmentId", String.valueOf(departments.get(1).getId()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(EMPLOYEES_PER_DEPARTMENT));
+
+        queries.atMost(4, () -> mockMvc.perform(post("/api/departments/" + departments.get(2).getId()
+                        + "/merge-into/" + departments.get(3).getId())
+                        .with(csrf())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(EMPLOYEES_PER_DEPARTMENT));
+
+        queries.atMost(4, () -> mockMvc.perform(delete("/api/departments/" + departments.get(DEPARTMENTS).getId())
+                        .with(csrf())))
+                .andExpect(status().isOk());
+    }
+
+    private static CreateEmployeeRequest createRequest(String name, Long departmentId) {
+        CreateEmployeeRequest request = new CreateEmployeeRequest();
+        request.setFirstName(name);
+        request.setLastName("Budget");
+        request.setEmail(name + ".budget@company.com");
+        request.setPosition("Engineer");
+        request.setSalary(new BigDecimal("50000"));
+        request.setDepartmentId(departmentId);
+        return request;
+    }
+}
@@ -0,0 +1,51 @@
+package edu.uw.cs.zongzewu.employee_management_system.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Logins behind the nginx proxy, the per-IP attempt limit must apply to the forwarded client address
+ * rather than the proxy's, the test client connects from loopback which Tomcat trusts as a proxy
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.auth.throttle.max-attempts-per-ip=2")
+@ActiveProfiles("test")
+class LoginClientAddressTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("Should limit login attempts per forwarded client address, not per proxy")
+    void login_ShouldThrottleByForwardedClient() {
+        assertEquals(HttpStatus.BAD_REQUEST, login("alice", "203.0.113.10").getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, login("bob", "203.0.113.10").getStatusCode());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, login("carol", "203.0.113.10").getStatusCode());
+
+        // another client behind the same proxy keeps its own budget
+        assertEquals(HttpStatus.BAD_REQUEST, login("dave", "198.51.100.20").getStatusCode());
+        // nginx appends the address it saw, the right-most address that is not a trusted proxy is the client
+        assertEquals(HttpStatus.BAD_REQUEST, login("erin", "198.51.100.30, 10.0.0.5").getStatusCode());
+    }
+
+    private ResponseEntity<String> login(String username, String forwardedFor) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Forwarded-For", forwardedFor);
+        return restTemplate.postForEntity("/api/auth/login",
+                new HttpEntity<>(Map.of("username", username, "password", "wrong-password"), headers), String.class);
+    }
+}
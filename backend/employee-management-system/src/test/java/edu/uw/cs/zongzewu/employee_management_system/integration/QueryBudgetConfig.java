@@ -0,0 +1,41 @@
+package edu.uw.cs.zongzewu.employee_management_system.integration;
+
+import jakarta.persistence.EntityManagerFactory;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the DataSource so QueryCounter sees every statement, import it next to @SpringBootTest
+ * and autowire QueryCounter to put a statement budget on a request
+ */
+@TestConfiguration
+public class QueryBudgetConfig {
+
+    // static, and the factory is looked up lazily, so the DataSource is still created after this post-processor
+    @Bean
+    static QueryCounter queryCounter(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        return new QueryCounter(entityManagerFactory);
+    }
+
+    @Bean
+    static BeanPostProcessor queryCountingDataSource(QueryCounter queryCounter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("query-budget")
+                            .listener(queryCounter)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,106 @@
+package edu.uw.cs.zongzewu.employee_management_system.integration;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Counts the JDBC statements a block of test code sends, registered on the DataSource by QueryBudgetConfig.
+ * Only statements from the thread running the block are counted, so background work
+ * (revoked token sync, replica checks) does not leak into the budget.
+ * A JDBC batch counts as one statement, it is one round trip
+ * <pre>
+ * queries.atMost(2, () -> mockMvc.perform(get("/api/employees")))
+ *         .andExpect(status().isOk());
+ * </pre>
+ */
+public class QueryCounter implements QueryExecutionListener {
+
+    @FunctionalInterface
+    public interface Action<T> {
+        T run() throws Exception;
+    }
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    private final List<String> statements = new ArrayList<>();
+    private volatile Thread recordingThread;
+
+    public QueryCounter(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * what an action returned and the statements it sent, in order
+     */
+    public record Recording<T>(T result, List<String> statements) {
+    }
+
+    /**
+     * run the action and fail if it sent more than maxStatements statements,
+     * writes still pending in the test transaction are flushed first so they are counted too
+     * @return what the action returned, e.g. the ResultActions of a MockMvc call
+     */
+    public <T> T atMost(int maxStatements, Action<T> action) throws Exception {
+        Recording<T> recording = record(action);
+        List<String> executed = recording.statements();
+        if (executed.size() > maxStatements) {
+            fail("Expected at most " + maxStatements + " statements but " + executed.size() + " were executed:\n"
+                    + executed.stream().map(sql -> "  " + sql).collect(Collectors.joining("\n")));
+        }
+        return recording.result();
+    }
+
+    public <T> Recording<T> record(Action<T> action) throws Exception {
+        synchronized (statements) {
+            statements.clear();
+        }
+        recordingThread = Thread.currentThread();
+        T result;
+        try {
+            result = action.run();
+            flushPendingWrites();
+        } finally {
+            recordingThread = null;
+        }
+        synchronized (statements) {
+            return new Recording<>(result, List.copyOf(statements));
+        }
+    }
+
+    private void flushPendingWrites() {
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory == null || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(factory);
+        if (entityManager != null) {
+            entityManager.flush();
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (Thread.currentThread() != recordingThread) {
+            return;
+        }
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        synchronized (statements) {
+            statements.add(execInfo.isBatch() ? "[batch x" + execInfo.getBatchSize() + "] " + sql : sql);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package edu.uw.cs.zongzewu.employee_management_system.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Employee;
+import edu.uw.cs.zongzewu.employee_management_system.entity.User;
+import edu.uw.cs.zongzewu.employee_management_system.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Boots the application on the embedded H2 of the test profile, loads a SyntheticDataset
+ * and drives a mixed read/write workload over HTTP with JWT-authenticated clients.
+ * Each client logs in once and sends requests back to back (closed loop), after the warm-up
+ * every request is timed and p50/p99 latency and throughput per endpoint go to loadtest.report as JSON.
+ * Not part of the normal build (surefire excludes loadtest/**), run with
+ * mvn -Ploadtest test [-Dloadtest.employees=500000 -Dloadtest.departments=2000 -Dloadtest.clients=16 -Dloadtest.duration=2m]
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        // the test profile logs every statement and bind value, that would be most of what is measured
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "logging.level.root=WARN",
+        "logging.level.edu.uw.cs.zongzewu.employee_management_system=WARN",
+        "logging.level.org.springframework.web=WARN",
+        "logging.level.org.springframework.security=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.org.springframework.test=WARN"
+})
+@ActiveProfiles("test")
+class ApiLoadTest {
+
+    private static final String USERNAME = "loadtest";
+    private static final String PASSWORD = "loadtest-password";
+    private static final Employee.EmployeeStatus[] STATUSES = Employee.EmployeeStatus.values();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${loadtest.employees:500000}")
+    private int employees;
+
+    @Value("${loadtest.departments:2000}")
+    private int departments;
+
+    @Value("${loadtest.seed:42}")
+    private long seed;
+
+    @Value("${loadtest.clients:8}")
+    private int clients;
+
+    @Value("${loadtest.warmup:15s}")
+    private Duration warmup;
+
+    @Value("${loadtest.duration:60s}")
+    private Duration duration;
+
+    @Value("${loadtest.report:target/loadtest/report.json}")
+    private String report;
+
+    private SyntheticDataset dataset;
+    private HttpClient httpClient;
+
+    @Test
+    @DisplayName("Mixed read/write load over the REST API")
+    void mixedReadWriteLoad() throws Exception {
+        dataset = new SyntheticDataset(employees, departments, seed);
+        long loadStart = System.nanoTime();
+        dataset.load(jdbcTemplate);
+        System.out.printf("Loaded %d employees in %d departments in %d s%n",
+                employees, departments, Duration.ofNanos(System.nanoTime() - loadStart).toSeconds());
+
+        User admin = new User();
+        admin.setUsername(USERNAME);
+        admin.setPassword(passwordEncoder.encode(PASSWORD));
+        admin.setEmail("loadtest@company.com");
+        admin.setRole(User.Role.ADMIN);
+        admin.setEnabled(true);
+        userRepository.save(admin);
+
+        httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        LocalDateTime startedAt = LocalDateTime.now();
+        long warmupEnd = System.nanoTime() + warmup.toNanos();
+        long end = warmupEnd + duration.toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        List<LatencyReport.Recorder> recorders = new ArrayList<>();
+        try {
+            List<Future<LatencyReport.Recorder>> results = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                results.add(executor.submit(new Client(i, login(), warmupEnd, end)));
+            }
+            for (Future<LatencyReport.Recorder> result : results) {
+                recorders.add(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        LatencyReport.Result result = LatencyReport.summarize(recorders, startedAt,
+                new LatencyReport.Dataset(employees, departments, seed), clients,
+                warmup.toSeconds(), duration.toSeconds());
+        Path reportFile = Path.of(report);
+        LatencyReport.write(result, reportFile);
+
+        System.out.printf("%-45s %9s %7s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms");
+        for (LatencyReport.EndpointResult endpoint : result.endpoints()) {
+            System.out.printf("%-45s %9d %7d %9.1f %9.2f %9.2f%n", endpoint.endpoint(), endpoint.requests(),
+                    endpoint.errors(), endpoint.throughputPerSecond(), endpoint.p50Ms(), endpoint.p99Ms());
+        }
+        System.out.println("Report written to " + reportFile.toAbsolutePath());
+
+        // a scenario that keeps failing measures error handling, not the endpoint
+        assertEquals(0, result.total().errors(), "Requests failed during the load test, see " + report);
+    }
+
+    private String login() throws Exception {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(uri("/api/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(
+                                Map.of("username", USERNAME, "password", PASSWORD))))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Load test login failed: " + response.statusCode() + " " + response.body());
+        }
+        JsonNode body = objectMapper.readTree(response.body());
+        return body.get("data").get("accessToken").asText();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    /**
+     * one virtual user, its own Random so the request mix is the same on every run
+     */
+    private final class Client implements Callable<LatencyReport.Recorder> {
+
+        private final int index;
+        private final String token;
+        private final long warmupEnd;
+        private final long end;
+        private final Random random;
+        private final LatencyReport.Recorder recorder = new LatencyReport.Recorder();
+        private int created;
+
+        Client(int index, String token, long warmupEnd, long end) {
+            this.index = index;
+            this.token = token;
+            this.warmupEnd = warmupEnd;
+            this.end = end;
+            this.random = new Random(seed + index);
+        }
+
+        @Override
+        public LatencyReport.Recorder call() throws Exception {
+            long now;
+            while ((now = System.nanoTime()) < end) {
+                boolean measured = now >= warmupEnd;
+                send(measured);
+            }
+            return recorder;
+        }
+
+        /**
+         * pick the next request by weight, 80% reads and 20% writes
+         */
+        private void send(boolean measured) throws Exception {
+            int roll = random.nextInt(100);
+            if (roll < 25) {
+                execute(measured, "GET /api/employees", get("/api/employees?page=" + random.nextInt(50) + "&size=20"));
+            } else if (roll < 45) {
+                execute(measured, "GET /api/employees/{id}", get("/api/employees/" + employeeId()));
+            } else if (roll < 55) {
+                execute(measured, "GET /api/employees/search",
+                        get("/api/employees/search?name=" + dataset.firstName(random).substring(0, 3) + "&size=20"));
+            } else if (roll < 65) {
+                execute(measured, "GET /api/employees/department/{departmentId}",
+                        get("/api/employees/department/" + dataset.departmentId(random) + "?size=20"));
+            } else if (roll < 70) {
+                execute(measured, "GET /api/employees/status/{status}",
+                        get("/api/employees/status/" + STATUSES[random.nextInt(STATUSES.length)] + "?size=20"));
+            } else if (roll < 75) {
+                execute(measured, "GET /api/departments",
+                        get("/api/departments?page=" + random.nextInt(Math.max(1, departments / 20)) + "&size=20"));
+            } else if (roll < 80) {
+                execute(measured, "GET /api/departments/{id}", get("/api/departments/" + dataset.departmentId(random)));
+            } else if (roll < 90) {
+                execute(measured, "POST /api/employees", json("/api/employees", "POST", newEmployee()));
+            } else if (roll < 98) {
+                execute(measured, "PUT /api/employees/{id}", json("/api/employees/" + employeeId(), "PUT", Map.of(
+                        "position", "Senior Software Engineer",
+                        "salary", 100_000 + random.nextInt(100) * 1_000)));
+            } else {
+                execute(measured, "PATCH /api/employees/{id}/status",
+                        request("/api/employees/" + employeeId() + "/status?status="
+                                + STATUSES[random.nextInt(STATUSES.length)])
+                                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                                .build());
+            }
+        }
+
+        private void execute(boolean measured, String endpoint, HttpRequest request) throws Exception {
+            long start = System.nanoTime();
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            long elapsed = System.nanoTime() - start;
+            if (measured) {
+                recorder.record(endpoint, elapsed, response.statusCode() >= 400);
+            }
+        }
+
+        private long employeeId() {
+            return 1 + random.nextInt(employees);
+        }
+
+        private Map<String, Object> newEmployee() {
+            String firstName = dataset.firstName(random);
+            String lastName = dataset.lastName(random);
+            created++;
+            return Map.of(
+                    "firstName", firstName,
+                    "lastName", lastName,
+                    // unique across clients, the dataset emails never start with loadtest.
+                    "email", "loadtest." + index + "." + created + "@company.com",
+                    "position", "Software Engineer",
+                    "salary", 90_000 + random.nextInt(70) * 1_000,
+                    "hireDate", LocalDate.now().minusDays(random.nextInt(365)).toString(),
+                    "status", "ACTIVE",
+                    "departmentId", dataset.departmentId(random));
+        }
+
+        private HttpRequest get(String path) {
+            return request(path).GET().build();
+        }
+
+        private HttpRequest json(String path, String method, Map<String, Object> body) throws Exception {
+            return request(path)
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        }
+
+        private HttpRequest.Builder request(String path) {
+            return HttpRequest.newBuilder(uri(path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Authorization", "Bearer " + token);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package edu.uw.cs.zongzewu.employee_management_system.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Latencies of one load test run per endpoint, written as JSON.
+ * Each client thread records into its own Recorder, they are merged once the run is over,
+ * so recording adds no contention to the requests being measured
+ */
+public class LatencyReport {
+
+    public record EndpointResult(String endpoint, long requests, long errors, double throughputPerSecond,
+                                 double p50Ms, double p99Ms, double maxMs) {
+    }
+
+    public record Dataset(int employees, int departments, long seed) {
+    }
+
+    public record Result(LocalDateTime startedAt, Dataset dataset, int clients, long warmupSeconds,
+                         long durationSeconds, EndpointResult total, List<EndpointResult> endpoints) {
+    }
+
+    /**
+     * latencies of one client thread, not thread-safe
+     */
+    public static class Recorder {
+        private final Map<String, Latencies> endpoints = new HashMap<>();
+
+        public void record(String endpoint, long nanos, boolean error) {
+            endpoints.computeIfAbsent(endpoint, key -> new Latencies()).add(nanos, error);
+        }
+    }
+
+    private static final class Latencies {
+        long[] nanos = new long[1024];
+        int count;
+        long errors;
+
+        void add(long value, boolean error) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = value;
+            if (error) {
+                errors++;
+            }
+        }
+
+        void addAll(Latencies other) {
+            for (int i = 0; i < other.count; i++) {
+                add(other.nanos[i], false);
+            }
+            errors += other.errors;
+        }
+    }
+
+    private LatencyReport() {
+    }
+
+    /**
+     * merge the client recorders into one result, endpoints with the most requests first
+     */
+    public static Result summarize(List<Recorder> recorders, LocalDateTime startedAt, Dataset dataset, int clients,
+                                   long warmupSeconds, long durationSeconds) {
+        Map<String, Latencies> merged = new HashMap<>();
+        Latencies all = new Latencies();
+        for (Recorder recorder : recorders) {
+            recorder.endpoints.forEach((endpoint, latencies) -> {
+                merged.computeIfAbsent(endpoint, key -> new Latencies()).addAll(latencies);
+                all.addAll(latencies);
+            });
+        }
+        List<EndpointResult> endpoints = new ArrayList<>();
+        merged.forEach((endpoint, latencies) -> endpoints.add(result(endpoint, latencies, durationSeconds)));
+        endpoints.sort(Comparator.comparingLong(EndpointResult::requests).reversed());
+        return new Result(startedAt, dataset, clients, warmupSeconds, durationSeconds,
+                result("ALL", all, durationSeconds), endpoints);
+    }
+
+    public static void write(Result result, Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), result);
+    }
+
+    private static EndpointResult result(String endpoint, Latencies latencies, long durationSeconds) {
+        long[] sorted = Arrays.copyOf(latencies.nanos, latencies.count);
+        Arrays.sort(sorted);
+        return new EndpointResult(endpoint, latencies.count, latencies.errors,
+                round((double) latencies.count / durationSeconds),
+                millis(percentile(sorted, 50)), millis(percentile(sorted, 99)),
+                millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+    }
+
+    /**
+     * nearest-rank percentile
+     */
+    static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,200 @@
+package edu.uw.cs.zongzewu.employee_management_system.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Generates departments and employees straight into the tables, the same seed gives the same rows.
+ * Names are drawn with a Zipf-like skew so a few are very common (as in real rosters),
+ * department sizes follow a Zipf distribution (a handful of huge departments, a long tail of small ones),
+ * statuses are 85% ACTIVE / 10% INACTIVE / 5% TERMINATED, salaries fall in a band per position
+ * and 2% of employees have no department.
+ * Ids are 1..departments and 1..employees, the sequences are moved past them so the API can insert
+ */
+public class SyntheticDataset {
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William", "Elizabeth",
+            "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+            "Wei", "Priya", "Hiroshi", "Fatima", "Carlos", "Olga", "Ahmed", "Mei", "Raj", "Sofia",
+            "Daniel", "Nancy", "Matthew", "Lisa", "Anthony", "Betty", "Mark", "Margaret", "Donald", "Sandra"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+            "Lee", "Wang", "Zhang", "Kim", "Nguyen", "Patel", "Singh", "Chen", "Tanaka", "Ivanova",
+            "Clark", "Lewis", "Walker", "Hall", "Allen", "Young", "King", "Wright", "Scott", "Green"
+    };
+
+    private static final String[] FUNCTIONS = {
+            "Engineering", "Sales", "Marketing", "Finance", "Operations", "Support", "Legal", "Research",
+            "Human Resources", "Product", "Design", "Security", "Data", "Facilities", "Procurement"
+    };
+
+    private static final String[] LOCATIONS = {
+            "Seattle", "San Francisco", "New York", "Austin", "Chicago", "Boston", "London", "Berlin",
+            "Bangalore", "Singapore", "Tokyo", "Toronto"
+    };
+
+    private record Position(String title, int weight, int minSalary, int maxSalary) {
+    }
+
+    private static final Position[] POSITIONS = {
+            new Position("Software Engineer", 30, 90_000, 160_000),
+            new Position("Senior Software Engineer", 12, 140_000, 220_000),
+            new Position("Sales Representative", 15, 45_000, 90_000),
+            new Position("Support Specialist", 15, 40_000, 70_000),
+            new Position("Analyst", 10, 60_000, 110_000),
+            new Position("Designer", 6, 70_000, 130_000),
+            new Position("Manager", 8, 110_000, 190_000),
+            new Position("Director", 3, 170_000, 280_000),
+            new Position("Intern", 1, 30_000, 45_000)
+    };
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final LocalDate FIRST_HIRE_DATE = LocalDate.of(2010, 1, 1);
+    private static final int HIRE_DATE_SPAN_DAYS = 15 * 365;
+
+    private final int employees;
+    private final int departments;
+    private final long seed;
+
+    private final double[] firstNameWeights = zipf(FIRST_NAMES.length, 1.0);
+    private final double[] lastNameWeights = zipf(LAST_NAMES.length, 0.8);
+    private final double[] positionWeights;
+    private final double[] departmentWeights;
+
+    public SyntheticDataset(int employees, int departments, long seed) {
+        if (employees < 1 || departments < 1) {
+            throw new IllegalArgumentException("Dataset needs at least one employee and one department");
+        }
+        this.employees = employees;
+        this.departments = departments;
+        this.seed = seed;
+        this.positionWeights = cumulative(Arrays.stream(POSITIONS).mapToDouble(Position::weight).toArray());
+        this.departmentWeights = zipf(departments, 1.0);
+    }
+
+    public int getEmployees() {
+        return employees;
+    }
+
+    public int getDepartments() {
+        return departments;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * insert every row in batches and move the id sequences past them
+     */
+    public void load(JdbcTemplate jdbcTemplate) {
+        Random random = new Random(seed);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int id = 1; id <= departments; id++) {
+            String function = FUNCTIONS[(id - 1) % FUNCTIONS.length];
+            rows.add(new Object[]{id, function + " " + id, function + " team " + id,
+                    LOCATIONS[random.nextInt(LOCATIONS.length)], fullName(random), now, now});
+            if (rows.size() == BATCH_SIZE || id == departments) {
+                jdbcTemplate.batchUpdate("INSERT INTO departments (id, name, description, location, manager_name, "
+                        + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+                rows.clear();
+            }
+        }
+
+        for (int id = 1; id <= employees; id++) {
+            String firstName = FIRST_NAMES[pick(firstNameWeights, random)];
+            String lastName = LAST_NAMES[pick(lastNameWeights, random)];
+            Position position = POSITIONS[pick(positionWeights, random)];
+            int salary = position.minSalary() + random.nextInt(position.maxSalary() - position.minSalary() + 1);
+            int statusRoll = random.nextInt(100);
+            String status = statusRoll < 85 ? "ACTIVE" : statusRoll < 95 ? "INACTIVE" : "TERMINATED";
+            Integer departmentId = random.nextInt(100) < 2 ? null : departmentId(random);
+
+            rows.add(new Object[]{id, firstName, lastName,
+                    (firstName + "." + lastName + "." + id + "@company.com").toLowerCase(Locale.ROOT),
+                    String.format("+1 %03d 555 %04d", 200 + random.nextInt(800), random.nextInt(10_000)),
+                    position.title(),
+                    // whole hundreds, like real pay bands
+                    BigDecimal.valueOf(salary / 100 * 100L).setScale(2),
+                    Date.valueOf(FIRST_HIRE_DATE.plusDays(random.nextInt(HIRE_DATE_SPAN_DAYS))),
+                    status, departmentId, now, now});
+            if (rows.size() == BATCH_SIZE || id == employees) {
+                jdbcTemplate.batchUpdate("INSERT INTO employees (id, first_name, last_name, email, phone, position, "
+                        + "salary, hire_date, status, department_id, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+                rows.clear();
+            }
+        }
+
+        // pooled sequences hand out the 50 ids below the value they return, keep two allocations clear
+        jdbcTemplate.execute("ALTER SEQUENCE departments_seq RESTART WITH " + (departments + 100));
+        jdbcTemplate.execute("ALTER SEQUENCE employees_seq RESTART WITH " + (employees + 100));
+    }
+
+    /**
+     * @return a department id drawn with the same skew as the data, so hot departments get most of the traffic
+     */
+    public int departmentId(Random random) {
+        return pick(departmentWeights, random) + 1;
+    }
+
+    /**
+     * @return a first name drawn with the same skew as the data
+     */
+    public String firstName(Random random) {
+        return FIRST_NAMES[pick(firstNameWeights, random)];
+    }
+
+    public String lastName(Random random) {
+        return LAST_NAMES[pick(lastNameWeights, random)];
+    }
+
+    private String fullName(Random random) {
+        return FIRST_NAMES[pick(firstNameWeights, random)] + " " + LAST_NAMES[pick(lastNameWeights, random)];
+    }
+
+    /**
+     * cumulative weights of rank k proportional to 1 / k^exponent
+     */
+    private static double[] zipf(int size, double exponent) {
+        double[] weights = new double[size];
+        for (int k = 0; k < size; k++) {
+            weights[k] = 1.0 / Math.pow(k + 1, exponent);
+        }
+        return cumulative(weights);
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double[] cumulative = new double[weights.length];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += weights[i];
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < cumulative.length; i++) {
+            cumulative[i] /= total;
+        }
+        return cumulative;
+    }
+
+    private static int pick(double[] cumulative, Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+}
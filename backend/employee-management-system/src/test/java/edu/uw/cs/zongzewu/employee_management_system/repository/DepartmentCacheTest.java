@@ -0,0 +1,127 @@
+package edu.uw.cs.zongzewu.employee_management_system.repository;
+
+import edu.uw.cs.zongzewu.employee_management_system.config.HibernateCacheConfig;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Department;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Employee;
+import edu.uw.cs.zongzewu.employee_management_system.service.EmployeeQueryCache;
+import edu.uw.cs.zongzewu.employee_management_system.service.EmployeeService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that department lookups are served from the second-level cache after the first read
+ * and that a write through Hibernate invalidates them
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({HibernateCacheConfig.class, EmployeeService.class, EmployeeQueryCache.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // the caches are filled and invalidated on commit
+class DepartmentCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    private Department engineering;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Department department = new Department();
+        department.setName("Engineering");
+        engineering = departmentRepository.save(department);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAllInBatch();
+        departmentRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("findById - Should read the department from the cache after the first load")
+    void findById_ShouldBeServedFromCache() {
+        departmentRepository.findById(engineering.getId());
+        statistics.clear();
+
+        Department department = departmentRepository.findById(engineering.getId()).orElseThrow();
+
+        assertEquals("Engineering", department.getName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    @DisplayName("findByName - Should answer from the query cache after the first call")
+    void findByName_ShouldBeServedFromQueryCache() {
+        departmentRepository.findByName("Engineering");
+        statistics.clear();
+
+        Department department = departmentRepository.findByName("Engineering").orElseThrow();
+
+        assertEquals(engineering.getId(), department.getId());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    @DisplayName("save - Should invalidate the cached department and name lookups")
+    void save_ShouldInvalidateCache() {
+        departmentRepository.findById(engineering.getId());
+        departmentRepository.findByName("Engineering");
+
+        Department renamed = departmentRepository.findById(engineering.getId()).orElseThrow();
+        renamed.setName("Platform");
+        departmentRepository.save(renamed);
+
+        assertFalse(departmentRepository.findByName("Engineering").isPresent());
+        assertTrue(departmentRepository.findByName("Platform").isPresent());
+        assertEquals("Platform", departmentRepository.findById(engineering.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    @DisplayName("createEmployee - Should take the department from the cache instead of the database")
+    void createEmployee_ShouldNotLoadDepartment() {
+        departmentRepository.findById(engineering.getId());
+        statistics.clear();
+
+        Employee employee = new Employee();
+        employee.setFirstName("First");
+        employee.setLastName("Last");
+        employee.setEmail("cached@company.com");
+        employeeService.createEmployee(employee, engineering.getId());
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+    }
+}
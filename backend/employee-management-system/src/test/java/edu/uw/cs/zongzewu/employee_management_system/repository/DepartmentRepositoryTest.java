@@ -0,0 +1,132 @@
+package edu.uw.cs.zongzewu.employee_management_system.repository;
+
+import edu.uw.cs.zongzewu.employee_management_system.dto.DepartmentDTO;
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeFilter;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Department;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Employee;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class DepartmentRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Department engineering;
+    private Department empty;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        engineering = persistDepartment("Engineering");
+        empty = persistDepartment("Empty");
+        persistEmployee("a", engineering, Employee.EmployeeStatus.ACTIVE);
+        persistEmployee("b", engineering, Employee.EmployeeStatus.ACTIVE);
+        persistEmployee("c", engineering, Employee.EmployeeStatus.INACTIVE);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("findDepartmentDTOs - Should count employees in SQL without loading entities")
+    void findDepartmentDTOs_ShouldGroupInDatabase() {
+        Map<Long, DepartmentDTO> departments = departmentRepository.findDepartmentDTOs(PageRequest.of(0, 10))
+                .getContent().stream()
+                .collect(Collectors.toMap(DepartmentDTO::getId, Function.identity()));
+
+        assertEquals(3, departments.get(engineering.getId()).getEmployeeCount());
+        assertEquals(2, departments.get(engineering.getId()).getActiveEmployeeCount());
+        assertEquals(0, departments.get(empty.getId()).getEmployeeCount());
+        assertEquals(0, departments.get(empty.getId()).getActiveEmployeeCount());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("findDepartmentDTOsWithEmployees / findEmptyDepartmentDTOs - Should filter on the grouped count")
+    void withEmployeesAndEmpty_ShouldSplitDepartments() {
+        Page<DepartmentDTO> withEmployees = departmentRepository.findDepartmentDTOsWithEmployees(PageRequest.of(0, 10));
+        Page<DepartmentDTO> emptyDepartments = departmentRepository.findEmptyDepartmentDTOs(PageRequest.of(0, 10));
+
+        assertEquals(List.of("Engineering"), withEmployees.map(DepartmentDTO::getName).getContent());
+        assertEquals(List.of("Empty"), emptyDepartments.map(DepartmentDTO::getName).getContent());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("moveToDepartment - Should move matching employees in one statement")
+    void moveToDepartment_ShouldMoveInOneStatement() {
+        int moved = employeeRepository.moveToDepartment(
+                new EmployeeFilter(Employee.EmployeeStatus.ACTIVE, engineering.getId(), null), empty, LocalDateTime.now());
+
+        assertEquals(2, moved);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, employeeRepository.countByDepartmentId(engineering.getId()));
+        assertEquals(2, employeeRepository.countByDepartmentId(empty.getId()));
+    }
+
+    @Test
+    @DisplayName("deleteWithoutLoading - Should delete an emptied department without loading it")
+    void deleteWithoutLoading_ShouldDeleteAfterMove() {
+        employeeRepository.moveToDepartment(EmployeeFilter.byDepartment(engineering.getId()), empty, LocalDateTime.now());
+
+        int deleted = departmentRepository.deleteWithoutLoading(engineering.getId());
+
+        assertEquals(1, deleted);
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertFalse(departmentRepository.existsById(engineering.getId()));
+        assertEquals(3, employeeRepository.countByDepartmentId(empty.getId()));
+    }
+
+    private Department persistDepartment(String name) {
+        Department department = new Department();
+        department.setName(name);
+        return entityManager.persist(department);
+    }
+
+    private void persistEmployee(String name, Department department, Employee.EmployeeStatus status) {
+        Employee employee = new Employee();
+        employee.setFirstName(name);
+        employee.setLastName(name);
+        employee.setEmail(name + "@company.com");
+        employee.setStatus(status);
+        employee.setDepartment(department);
+        entityManager.persist(employee);
+    }
+}
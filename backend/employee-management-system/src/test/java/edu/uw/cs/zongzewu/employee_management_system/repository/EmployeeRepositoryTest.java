@@ -0,0 +1,229 @@
+package edu.uw.cs.zongzewu.employee_management_system.repository;
+
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeDTO;
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeFilter;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Department;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Employee;
+import edu.uw.cs.zongzewu.employee_management_system.util.KeysetCursor;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Checks that the employee list read paths load departments in the same query
+ * and select straight into EmployeeDTO, the number of statements must not grow with the number of rows
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class EmployeeRepositoryTest {
+
+    private static final int DEPARTMENTS = 5;
+    private static final int EMPLOYEES_PER_DEPARTMENT = 4;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int d = 0; d < DEPARTMENTS; d++) {
+            Department department = new Department();
+            department.setName("Department " + d);
+            department.setLocation("Floor " + d);
+            entityManager.persist(department);
+
+            for (int i = 0; i < EMPLOYEES_PER_DEPARTMENT; i++) {
+                Employee employee = new Employee();
+                employee.setFirstName("First" + d + i);
+                employee.setLastName("Last" + d + i);
+                employee.setEmail("employee" + d + i + "@company.com");
+                employee.setPosition("Engineer");
+                employee.setStatus(Employee.EmployeeStatus.ACTIVE);
+                employee.setDepartment(department);
+                entityManager.persist(employee);
+            }
+        }
+        // start every test with an empty persistence context so nothing is served from it
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("findAll - Should load a page with departments in select + count")
+    void findAll_ShouldNotLoadDepartmentsPerRow() {
+        Page<Employee> page = employeeRepository.findAll(PageRequest.of(0, 10));
+        List<EmployeeDTO> dtos = toDTOs(page.getContent());
+
+        assertEquals(10, dtos.size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("findEmployeeDTOs - Should select a page of DTOs in select + count without loading entities")
+    void findEmployeeDTOs_ShouldNotLoadEntities() {
+        Page<EmployeeDTO> page = employeeRepository.findEmployeeDTOs(PageRequest.of(0, 10, Sort.by("lastName")));
+
+        assertEquals(10, page.getNumberOfElements());
+        assertEquals(DEPARTMENTS * EMPLOYEES_PER_DEPARTMENT, page.getTotalElements());
+        assertEquals("Department 0", page.getContent().get(0).getDepartment().getName());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("findEmployeeDTOsByStatus - Should select a page of DTOs in select + count without loading entities")
+    void findEmployeeDTOsByStatus_ShouldNotLoadEntities() {
+        Page<EmployeeDTO> page = employeeRepository.findEmployeeDTOsByStatus(
+                Employee.EmployeeStatus.ACTIVE, PageRequest.of(0, 10));
+
+        assertEquals(10, page.getNumberOfElements());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("findEmployeeDTOsByDepartmentId - Should select a page of DTOs without loading entities")
+    void findEmployeeDTOsByDepartmentId_ShouldNotLoadEntities() {
+        Long departmentId = employeeRepository.findEmployeeDTOs(PageRequest.of(0, 1)).getContent().get(0)
+                .getDepartment().getId();
+        statistics.clear();
+
+        Page<EmployeeDTO> page = employeeRepository.findEmployeeDTOsByDepartmentId(departmentId, PageRequest.of(0, 10));
+
+        assertEquals(EMPLOYEES_PER_DEPARTMENT, page.getNumberOfElements());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("findEmployeeDTOsByNameContaining - Should select a page of DTOs in select + count without loading entities")
+    void findEmployeeDTOsByNameContaining_ShouldNotLoadEntities() {
+        Page<EmployeeDTO> page = employeeRepository.findEmployeeDTOsByNameContaining("first", PageRequest.of(0, 10));
+
+        assertEquals(10, page.getNumberOfElements());
+        assertEquals(DEPARTMENTS * EMPLOYEES_PER_DEPARTMENT, page.getTotalElements());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("findByPositionContainingIgnoreCase - Should load departments in a single select")
+    void findByPosition_ShouldNotLoadDepartmentsPerRow() {
+        List<EmployeeDTO> dtos = toDTOs(employeeRepository.findByPositionContainingIgnoreCase("engineer"));
+
+        assertEquals(DEPARTMENTS * EMPLOYEES_PER_DEPARTMENT, dtos.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("findKeysetPage - Should select DTOs in a single statement without loading entities")
+    void findKeysetPage_ShouldNotLoadEntities() {
+        List<EmployeeDTO> dtos = employeeRepository.findKeysetPage(
+                EmployeeFilter.all(), KeysetCursor.first("lastName"), 10);
+
+        assertEquals(10, dtos.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("streamByFilter - Should stream filtered DTOs ordered by id without loading entities")
+    void streamByFilter_ShouldApplyFilterAndOrderById() {
+        List<EmployeeDTO> dtos;
+        try (Stream<EmployeeDTO> stream = employeeRepository.streamByFilter(EmployeeFilter.byName("first1"), 2)) {
+            dtos = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(EMPLOYEES_PER_DEPARTMENT, dtos.size());
+        assertEquals(dtos.stream().map(EmployeeDTO::getId).sorted().collect(Collectors.toList()),
+                dtos.stream().map(EmployeeDTO::getId).collect(Collectors.toList()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("updateStatusByIds - Should update in one statement and skip rows already in the status")
+    void updateStatusByIds_ShouldUpdateInOneStatement() {
+        List<Long> ids = employeeRepository.findEmployeeDTOs(PageRequest.of(0, 3)).getContent().stream()
+                .map(EmployeeDTO::getId)
+                .collect(Collectors.toList());
+        LocalDateTime updatedAt = LocalDateTime.now().plusDays(1).withNano(0);
+        statistics.clear();
+
+        int updated = employeeRepository.updateStatusByIds(ids, Employee.EmployeeStatus.TERMINATED, updatedAt);
+        int again = employeeRepository.updateStatusByIds(ids, Employee.EmployeeStatus.TERMINATED, updatedAt);
+
+        assertEquals(3, updated);
+        assertEquals(0, again);
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        Employee employee = employeeRepository.findById(ids.get(0)).orElseThrow();
+        assertEquals(Employee.EmployeeStatus.TERMINATED, employee.getStatus());
+        assertEquals(updatedAt, employee.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("updateStatusByFilter - Should update every matching employee in one statement")
+    void updateStatusByFilter_ShouldUpdateMatchingRows() {
+        Long departmentId = employeeRepository.findEmployeeDTOs(PageRequest.of(0, 1)).getContent().get(0)
+                .getDepartment().getId();
+        statistics.clear();
+
+        int updated = employeeRepository.updateStatusByFilter(
+                new EmployeeFilter(Employee.EmployeeStatus.ACTIVE, departmentId, null),
+                Employee.EmployeeStatus.INACTIVE, LocalDateTime.now());
+
+        assertEquals(EMPLOYEES_PER_DEPARTMENT, updated);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(EMPLOYEES_PER_DEPARTMENT, employeeRepository.findEmployeeDTOsByStatus(
+                Employee.EmployeeStatus.INACTIVE, PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    @DisplayName("deleteByIds - Should delete in one statement without loading entities")
+    void deleteByIds_ShouldDeleteInOneStatement() {
+        List<Long> ids = employeeRepository.findEmployeeDTOs(PageRequest.of(0, 5)).getContent().stream()
+                .map(EmployeeDTO::getId)
+                .collect(Collectors.toList());
+        statistics.clear();
+
+        int deleted = employeeRepository.deleteByIds(ids);
+
+        assertEquals(5, deleted);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertFalse(employeeRepository.existsById(ids.get(0)));
+    }
+
+    private List<EmployeeDTO> toDTOs(List<Employee> employees) {
+        // the mapping touches employee.getDepartment() like the controllers do
+        return employees.stream().map(EmployeeDTO::fromEntity).collect(Collectors.toList());
+    }
+}
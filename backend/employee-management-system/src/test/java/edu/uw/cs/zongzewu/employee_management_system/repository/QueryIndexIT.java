@@ -0,0 +1,242 @@
+package edu.uw.cs.zongzewu.employee_management_system.repository;
+
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeFilter;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Employee;
+import edu.uw.cs.zongzewu.employee_management_system.util.KeysetCursor;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Applies the Flyway migrations to a real PostgreSQL, loads a data set big enough for the planner
+ * to prefer indexes, then EXPLAINs the SQL Hibernate actually sends for each repository query
+ * (with its bind values inlined) and checks it is planned on the intended index.
+ * Needs Docker, runs with mvn verify
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.flyway.locations=classpath:db/migration",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // seed data must be committed before ANALYZE
+class QueryIndexIT {
+
+    private static final int DEPARTMENTS = 20_000;
+    private static final int EMPLOYEES = 200_000;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15");
+
+    private static final List<QueryInfo> EXECUTED = new CopyOnWriteArrayList<>();
+    private static boolean seeded;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @TestConfiguration
+    static class RecordingDataSourceConfig {
+        @Bean
+        static BeanPostProcessor recordingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                                .listener(new QueryExecutionListener() {
+                                    @Override
+                                    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                                    }
+
+                                    @Override
+                                    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                                        EXECUTED.addAll(queryInfoList);
+                                    }
+                                })
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        // md5 text makes substring searches selective, 1% TERMINATED, 0.1% without department
+        jdbcTemplate.update("INSERT INTO departments (id, name, location, manager_name, created_at, updated_at) "
+                + "SELECT g, 'Department ' || g, 'Location ' || md5(g::text), 'Manager ' || md5((g * 7)::text), "
+                + "now(), now() FROM generate_series(1, " + DEPARTMENTS + ") g");
+        jdbcTemplate.update("INSERT INTO employees (id, first_name, last_name, email, position, salary, hire_date, "
+                + "status, department_id, created_at, updated_at) "
+                + "SELECT g, 'First' || md5(g::text), 'Last' || md5((g * 7)::text), 'employee' || g || '@company.com', "
+                + "'Engineer', 50000, DATE '2015-01-01' + (g % 3650), "
+                + "CASE WHEN g % 100 = 0 THEN 'TERMINATED' WHEN g % 10 = 0 THEN 'INACTIVE' ELSE 'ACTIVE' END, "
+                + "CASE WHEN g % 1000 = 0 THEN NULL ELSE g % " + DEPARTMENTS + " + 1 END, now(), now() "
+                + "FROM generate_series(1, " + EMPLOYEES + ") g");
+        jdbcTemplate.execute("ANALYZE departments");
+        jdbcTemplate.execute("ANALYZE employees");
+        seeded = true;
+    }
+
+    @Test
+    @DisplayName("EmployeeRepository - lookups by email use the unique index")
+    void employeeEmailLookups() {
+        assertUsesIndex("employees_email_key", () -> employeeRepository.findByEmail("employee42@company.com"));
+        assertUsesIndex("employees_email_key", () -> employeeRepository.findExistingEmails(
+                List.of("employee42@company.com", "employee43@company.com")));
+    }
+
+    @Test
+    @DisplayName("EmployeeRepository - department queries use idx_employees_department_id")
+    void employeeDepartmentQueries() {
+        assertUsesIndex("idx_employees_department_id",
+                () -> employeeRepository.findEmployeeDTOsByDepartmentId(42L, PageRequest.of(0, 20)));
+        assertUsesIndex("idx_employees_department_id", () -> employeeRepository.countByDepartmentId(42L));
+        assertUsesIndex("idx_employees_department_id", () -> employeeRepository.findByDepartmentIsNull());
+        assertUsesIndex("idx_employees_department_id", () -> employeeRepository.findKeysetPage(
+                EmployeeFilter.byDepartment(42L), KeysetCursor.first("id"), 21));
+    }
+
+    @Test
+    @DisplayName("EmployeeRepository - status queries use idx_employees_status_department_id")
+    void employeeStatusQueries() {
+        // the select pages by LIMIT without a sort, the count is the statement that has to read every match
+        assertUsesIndex("idx_employees_status_department_id", 1,
+                () -> employeeRepository.findEmployeeDTOsByStatus(Employee.EmployeeStatus.TERMINATED, PageRequest.of(0, 20)));
+        assertUsesIndex("idx_employees_status_department_id", () -> employeeRepository.findKeysetPage(
+                new EmployeeFilter(Employee.EmployeeStatus.TERMINATED, 42L, null), KeysetCursor.first("id"), 21));
+    }
+
+    @Test
+    @DisplayName("EmployeeRepository - name search uses the trigram indexes")
+    void employeeNameSearch() {
+        assertUsesIndex("idx_employees_first_name_trgm",
+                () -> employeeRepository.findEmployeeDTOsByNameContaining("3f9a", PageRequest.of(0, 20)));
+        assertUsesIndex("idx_employees_last_name_trgm",
+                () -> employeeRepository.findEmployeeDTOsByNameContaining("3f9a", PageRequest.of(0, 20)));
+    }
+
+    @Test
+    @DisplayName("EmployeeRepository - sort by hire date uses idx_employees_hire_date")
+    void employeeSortByHireDate() {
+        assertUsesIndex("idx_employees_hire_date", () -> employeeRepository.findEmployeeDTOs(
+                PageRequest.of(0, 20, Sort.by("hireDate").and(Sort.by("id")))));
+    }
+
+    @Test
+    @DisplayName("DepartmentRepository - name lookups use the unique index, searches the trigram indexes")
+    void departmentQueries() {
+        assertUsesIndex("departments_name_key", () -> departmentRepository.findByName("Department 42"));
+        assertUsesIndex("departments_name_key", () -> departmentRepository.existsByNameAndIdNot("Department 42", 1L));
+        assertUsesIndex("idx_departments_name_trgm",
+                () -> departmentRepository.findDepartmentDTOsByNameContaining("ment 4242", PageRequest.of(0, 20)));
+        assertUsesIndex("idx_departments_location_trgm",
+                () -> departmentRepository.findDepartmentDTOsByLocationContaining("3f9a", PageRequest.of(0, 20)));
+        assertUsesIndex("idx_departments_manager_name_trgm",
+                () -> departmentRepository.findDepartmentDTOsByManagerNameContaining("3f9a", PageRequest.of(0, 20)));
+    }
+
+    // findEmployeeDTOs/findDepartmentDTOs without a sort, findDepartmentDTOsWithEmployees/findEmptyDepartmentDTOs
+    // and findByPositionContainingIgnoreCase read or group the whole table, a sequential scan is the right plan
+
+    private void assertUsesIndex(String index, Runnable query) {
+        assertUsesIndex(index, 0, query);
+    }
+
+    /**
+     * run the repository call, take the nth select it sent and EXPLAIN it with the bind values inlined
+     */
+    private void assertUsesIndex(String index, int statement, Runnable query) {
+        EXECUTED.clear();
+        query.run();
+        List<QueryInfo> selects = EXECUTED.stream()
+                .filter(info -> info.getQuery().trim().toLowerCase().startsWith("select"))
+                .collect(Collectors.toList());
+        assertTrue(selects.size() > statement, "expected at least " + (statement + 1) + " select statements");
+
+        String sql = inlineParameters(selects.get(statement));
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+        assertTrue(plan.contains(index), "expected " + index + " in plan for\n" + sql + "\n" + plan);
+    }
+
+    private static String inlineParameters(QueryInfo info) {
+        List<Object> values = new ArrayList<>();
+        if (!info.getParametersList().isEmpty()) {
+            info.getParametersList().get(0).stream()
+                    .sorted(Comparator.comparingInt(op -> (Integer) op.getArgs()[0]))
+                    .map(ParameterSetOperation::getArgs)
+                    .forEach(args -> values.add(args[1]));
+        }
+
+        // Hibernate SQL has no '?' other than bind markers
+        StringBuilder sql = new StringBuilder();
+        int next = 0;
+        for (char c : info.getQuery().toCharArray()) {
+            if (c == '?') {
+                sql.append(toLiteral(values.get(next++)));
+            } else {
+                sql.append(c);
+            }
+        }
+        return sql.toString();
+    }
+
+    private static String toLiteral(Object value) {
+        if (value == null) {
+            return "NULL";
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+        return "'" + value.toString().replace("'", "''") + "'";
+    }
+}
@@ -0,0 +1,160 @@
+package edu.uw.cs.zongzewu.employee_management_system.service;
+
+import edu.uw.cs.zongzewu.employee_management_system.dto.AuthResponse;
+import edu.uw.cs.zongzewu.employee_management_system.dto.LoginRequest;
+import edu.uw.cs.zongzewu.employee_management_system.entity.User;
+import edu.uw.cs.zongzewu.employee_management_system.repository.UserRepository;
+import edu.uw.cs.zongzewu.employee_management_system.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordHashingExecutor passwordHashing;
+
+    @Mock
+    private LoginThrottle loginThrottle;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+
+    private AuthService authService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        // the unknown-user placeholder is hashed once, when the service is built
+        when(passwordHashing.encode("unknown-user-placeholder")).thenReturn("placeholder");
+        authService = new AuthService(userRepository, passwordHashing, loginThrottle, jwtUtil, tokenRevocationStore);
+
+        user = new User();
+        user.setUsername("alice");
+        user.setPassword("encoded");
+        user.setEmail("alice@company.com");
+        user.setRole(User.Role.USER);
+        user.setEnabled(true);
+    }
+
+    @Test
+    @DisplayName("login - Should look the user up once and issue tokens")
+    void login_ShouldUseSingleLookup() {
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        when(passwordHashing.matches("secret", "encoded")).thenReturn(true);
+        when(jwtUtil.generateAccessToken(user)).thenReturn("access");
+        when(jwtUtil.generateRefreshToken(user)).thenReturn("refresh");
+
+        AuthResponse response = authService.login(login("alice", "secret"), "10.0.0.1");
+
+        assertEquals("access", response.getAccessToken());
+        verify(userRepository, times(1)).findByUsername("alice");
+        verify(loginThrottle).recordSuccess("alice");
+    }
+
+    @Test
+    @DisplayName("login - Should hash even for an unknown user and count the failure")
+    void login_ShouldRejectUnknownUser() {
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> authService.login(login("ghost", "secret"), "10.0.0.1"));
+
+        assertEquals("Invalid username or password", e.getMessage());
+        verify(passwordHashing).matches("secret", "placeholder");
+        verify(passwordHashing, times(1)).encode(anyString());
+        verify(loginThrottle).recordFailure("ghost");
+    }
+
+    @Test
+    @DisplayName("login - Should not query or hash when the caller is throttled")
+    void login_ShouldStopWhenThrottled() {
+        doThrow(new LoginRejectedException(LoginRejectedException.Reason.THROTTLED, "slow down", 60))
+                .when(loginThrottle).checkAttempt("alice", "10.0.0.1");
+
+        assertThrows(LoginRejectedException.class, () -> authService.login(login("alice", "secret"), "10.0.0.1"));
+
+        verify(userRepository, never()).findByUsername(anyString());
+        verify(passwordHashing, never()).matches(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("refreshToken - Should look the user up once and issue tokens for it")
+    void refreshToken_ShouldUseSingleLookup() {
+        Claims refreshClaims = claims("r-jti", new Date(System.currentTimeMillis() + 60_000));
+        refreshClaims.setSubject("alice");
+        when(jwtUtil.verify("refresh")).thenReturn(refreshClaims);
+        when(jwtUtil.isRefreshToken(refreshClaims)).thenReturn(true);
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        when(jwtUtil.generateAccessToken(user)).thenReturn("new-access");
+        when(jwtUtil.generateRefreshToken(user)).thenReturn("new-refresh");
+
+        AuthResponse response = authService.refreshToken("refresh");
+
+        assertEquals("new-access", response.getAccessToken());
+        assertEquals("new-refresh", response.getRefreshToken());
+        verify(userRepository, times(1)).findByUsername("alice");
+    }
+
+    @Test
+    @DisplayName("logout - Should revoke both tokens by jti until they expire")
+    void logout_ShouldRevokeTokens() {
+        // JWT dates are whole seconds
+        Date expiration = new Date((System.currentTimeMillis() / 1000 + 60) * 1000);
+        when(jwtUtil.verify("access")).thenReturn(claims("a-jti", expiration));
+        when(jwtUtil.verify("refresh")).thenReturn(claims("r-jti", expiration));
+
+        authService.logout("access", "refresh");
+
+        verify(tokenRevocationStore).revoke("a-jti", expiration);
+        verify(tokenRevocationStore).revoke("r-jti", expiration);
+    }
+
+    @Test
+    @DisplayName("logout - Should skip a token that no longer verifies")
+    void logout_ShouldSkipInvalidToken() {
+        when(jwtUtil.verify("expired")).thenThrow(new ExpiredJwtException(null, null, "expired"));
+
+        authService.logout("expired", null);
+
+        verify(tokenRevocationStore, never()).revoke(anyString(), any());
+    }
+
+    private static Claims claims(String jti, Date expiration) {
+        return Jwts.claims().setId(jti).setExpiration(expiration);
+    }
+
+    private static LoginRequest login(String username, String password) {
+        LoginRequest request = new LoginRequest();
+        request.setUsername(username);
+        request.setPassword(password);
+        return request;
+    }
+}
@@ -0,0 +1,157 @@
+package edu.uw.cs.zongzewu.employee_management_system.service;
+
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeImportResult;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Department;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Employee;
+import edu.uw.cs.zongzewu.employee_management_system.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Runs the import against H2, which goes through the JDBC batch staging path instead of COPY
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({EmployeeImportService.class, EmployeeQueryCache.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+class EmployeeImportServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Department engineering;
+
+    @BeforeEach
+    void setUp() {
+        engineering = new Department();
+        engineering.setName("Engineering");
+        entityManager.persist(engineering);
+
+        Employee existing = new Employee();
+        existing.setFirstName("Existing");
+        existing.setLastName("Employee");
+        existing.setEmail("existing@company.com");
+        entityManager.persist(existing);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("importCsv - Should import valid rows and report the others by row number")
+    void importCsv_ShouldImportValidRowsAndReportErrors() {
+        String csv = "firstName,lastName,email,salary,hireDate,status,department\r\n"
+                + "John,Doe,john@company.com,75000.00,2024-01-15,ACTIVE,engineering\r\n"
+                + "\"Smith, Jr.\",Jane,jane@company.com,,,,\r\n"
+                + "Bad,Email,not-an-email,,,,\r\n"
+                + "Old,Timer,existing@company.com,,,,\r\n"
+                + "Dup,Licate,john@company.com,,,,\r\n"
+                + "No,Department,nodept@company.com,,,,Marketing\r\n"
+                + "\r\n"
+                + "Bad,Salary,salary@company.com,abc,,,\r\n";
+
+        EmployeeImportResult result = employeeImportService.importCsv(toStream(csv));
+
+        assertEquals(7, result.getTotalRows());
+        assertEquals(2, result.getImportedRows());
+        assertEquals(List.of(3L, 4L, 5L, 6L, 7L), result.getErrors().stream()
+                .map(EmployeeImportResult.RowError::getRow)
+                .collect(Collectors.toList()));
+        assertEquals("This email already exists: existing@company.com", result.getErrors().get(1).getError());
+        assertEquals("Department not found with name: Marketing", result.getErrors().get(3).getError());
+
+        Employee john = employeeRepository.findByEmail("john@company.com").orElseThrow();
+        assertEquals(engineering.getId(), john.getDepartment().getId());
+        assertEquals(Employee.EmployeeStatus.ACTIVE, john.getStatus());
+        assertEquals("Smith, Jr.", employeeRepository.findByEmail("jane@company.com").orElseThrow().getFirstName());
+        assertEquals(3, employeeRepository.count());
+    }
+
+    @Test
+    @DisplayName("importCsv - Should match existing emails case insensitively, like duplicates in the file")
+    void importCsv_ShouldReportExistingEmail_IgnoringCase() {
+        String csv = "firstName,lastName,email\r\n"
+                + "Old,Timer,Existing@Company.com\r\n"
+                + "New,Hire,new@company.com\r\n";
+
+        EmployeeImportResult result = employeeImportService.importCsv(toStream(csv));
+
+        assertEquals(1, result.getImportedRows());
+        assertEquals(1, result.getErrors().size());
+        assertEquals("This email already exists: Existing@Company.com", result.getErrors().get(0).getError());
+        assertEquals(2, employeeRepository.count());
+    }
+
+    @Test
+    @DisplayName("importCsv - Should take one sequence value per 50 rows and leave Hibernate's ids clear")
+    void importCsv_ShouldAllocateIdsInSequenceBlocks() {
+        StringBuilder csv = new StringBuilder("firstName,lastName,email\r\n");
+        for (int i = 0; i < 120; i++) {
+            csv.append("First,Last,bulk").append(i).append("@company.com\r\n");
+        }
+        long before = nextSequenceValue();
+
+        EmployeeImportResult result = employeeImportService.importCsv(toStream(csv.toString()));
+
+        assertEquals(120, result.getImportedRows());
+        // 3 blocks for 120 rows, plus the probe below
+        assertEquals(before + 4 * 50, nextSequenceValue());
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM employees WHERE email LIKE 'bulk%' ORDER BY id", Long.class);
+        assertEquals(120, new HashSet<>(ids).size());
+        assertEquals(before + 1, ids.get(0));
+        assertEquals(before + 120, ids.get(ids.size() - 1));
+
+        // an entity saved afterwards draws its own block and does not collide with the imported ids
+        Employee later = new Employee();
+        later.setFirstName("Later");
+        later.setLastName("Hire");
+        later.setEmail("later@company.com");
+        entityManager.persist(later);
+        entityManager.flush();
+        assertEquals(122, employeeRepository.count());
+    }
+
+    @Test
+    @DisplayName("importCsv - Should reject a file without the required columns")
+    void importCsv_ShouldThrow_WhenRequiredColumnMissing() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> employeeImportService.importCsv(toStream("firstName,lastName\r\nJohn,Doe\r\n")));
+
+        assertEquals("Missing required columns: email", exception.getMessage());
+    }
+
+    private long nextSequenceValue() {
+        return jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR employees_seq", Long.class);
+    }
+
+    private static ByteArrayInputStream toStream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
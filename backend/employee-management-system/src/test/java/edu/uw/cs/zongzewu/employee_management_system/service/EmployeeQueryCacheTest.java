@@ -0,0 +1,150 @@
+package edu.uw.cs.zongzewu.employee_management_system.service;
+
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeDTO;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class EmployeeQueryCacheTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10);
+
+    private EmployeeQueryCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new EmployeeQueryCache(Duration.ofMinutes(1), 100);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("get - Should load a missing key once and serve the next calls from the cache")
+    void get_ShouldLoadOnce() {
+        Page<EmployeeDTO> first = get(EmployeeQueryCache.QueryType.STATUS, Employee.EmployeeStatus.ACTIVE);
+        Page<EmployeeDTO> second = get(EmployeeQueryCache.QueryType.STATUS, Employee.EmployeeStatus.ACTIVE);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("get - Should run one load for concurrent callers of a cold key")
+    void get_ShouldNotStampede() throws Exception {
+        int callers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Page<EmployeeDTO>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get(EmployeeQueryCache.QueryType.NAME, "john", FIRST_PAGE, () -> {
+                        loads.incrementAndGet();
+                        sleep(100);
+                        return new PageImpl<>(List.of());
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<Page<EmployeeDTO>> result : results) {
+                result.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("evictAfterCommit - Should evict only the lists the employee appears in")
+    void evict_ShouldBePrecise() {
+        get(EmployeeQueryCache.QueryType.STATUS, Employee.EmployeeStatus.ACTIVE);
+        get(EmployeeQueryCache.QueryType.STATUS, Employee.EmployeeStatus.TERMINATED);
+        get(EmployeeQueryCache.QueryType.DEPARTMENT, 1L);
+        get(EmployeeQueryCache.QueryType.DEPARTMENT, 2L);
+        get(EmployeeQueryCache.QueryType.NAME, "JOH");
+        get(EmployeeQueryCache.QueryType.NAME, "smi");
+        get(EmployeeQueryCache.QueryType.NAME, "alice");
+        loads.set(0);
+
+        // no transaction is active, the eviction runs right away
+        cache.evictAfterCommit(new EmployeeQueryCache.Snapshot(Employee.EmployeeStatus.ACTIVE, 1L, "John", "Smith"));
+
+        get(EmployeeQueryCache.QueryType.STATUS, Employee.EmployeeStatus.TERMINATED);
+        get(EmployeeQueryCache.QueryType.DEPARTMENT, 2L);
+        get(EmployeeQueryCache.QueryType.NAME, "alice");
+        assertEquals(0, loads.get());
+
+        get(EmployeeQueryCache.QueryType.STATUS, Employee.EmployeeStatus.ACTIVE);
+        get(EmployeeQueryCache.QueryType.DEPARTMENT, 1L);
+        get(EmployeeQueryCache.QueryType.NAME, "JOH");
+        get(EmployeeQueryCache.QueryType.NAME, "smi");
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    @DisplayName("clearAfterCommit - Should evict every list")
+    void clear_ShouldEvictEverything() {
+        get(EmployeeQueryCache.QueryType.STATUS, Employee.EmployeeStatus.ACTIVE);
+        get(EmployeeQueryCache.QueryType.DEPARTMENT, 1L);
+        loads.set(0);
+
+        cache.clearAfterCommit();
+
+        get(EmployeeQueryCache.QueryType.STATUS, Employee.EmployeeStatus.ACTIVE);
+        get(EmployeeQueryCache.QueryType.DEPARTMENT, 1L);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("get - Should not keep a page whose load overlapped an eviction")
+    void get_ShouldNotKeepPageLoadedDuringEviction() {
+        cache.get(EmployeeQueryCache.QueryType.DEPARTMENT, 1L, FIRST_PAGE, () -> {
+            loads.incrementAndGet();
+            // a write commits while the rows are being read
+            cache.evictAfterCommit(new EmployeeQueryCache.Snapshot(Employee.EmployeeStatus.ACTIVE, 1L, "a", "b"));
+            return new PageImpl<>(List.of());
+        });
+
+        get(EmployeeQueryCache.QueryType.DEPARTMENT, 1L);
+
+        assertEquals(2, loads.get());
+    }
+
+    private Page<EmployeeDTO> get(EmployeeQueryCache.QueryType type, Object argument) {
+        return cache.get(type, argument, FIRST_PAGE, () -> {
+            loads.incrementAndGet();
+            return new PageImpl<>(new ArrayList<>());
+        });
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package edu.uw.cs.zongzewu.employee_management_system.service;
+
+import edu.uw.cs.zongzewu.employee_management_system.dto.CreateEmployeeRequest;
+import edu.uw.cs.zongzewu.employee_management_system.dto.EmployeeBatchResult;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Department;
+import edu.uw.cs.zongzewu.employee_management_system.entity.Employee;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that POST /api/employees/batch inserts through JDBC batches
+ * and reports invalid items without failing the valid ones
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({EmployeeService.class, EmployeeQueryCache.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+class EmployeeServiceBatchTest {
+
+    private static final int EMPLOYEES = 120;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    private Department engineering;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        engineering = new Department();
+        engineering.setName("Engineering");
+        entityManager.persist(engineering);
+
+        Employee existing = new Employee();
+        existing.setFirstName("Existing");
+        existing.setLastName("Employee");
+        existing.setEmail("existing@company.com");
+        entityManager.persist(existing);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("createEmployees - Should insert in JDBC batches, statements must not grow with the number of items")
+    void createEmployees_ShouldBatchInserts() {
+        List<CreateEmployeeRequest> requests = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            requests.add(request("employee" + i + "@company.com", engineering.getId()));
+        }
+
+        EmployeeBatchResult result = employeeService.createEmployees(requests);
+
+        assertEquals(EMPLOYEES, result.getCreatedItems());
+        assertEquals(EMPLOYEES, statistics.getEntityInsertCount());
+        // 2 lookups, a few sequence calls and one insert statement per batch of 50
+        assertTrue(statistics.getPrepareStatementCount() < 15,
+                "expected batched inserts but got " + statistics.getPrepareStatementCount() + " statements");
+        assertEquals(engineering.getId(), result.getCreated().get(0).getDepartment().getId());
+    }
+
+    @Test
+    @DisplayName("createEmployees - Should report invalid items by index and create the others")
+    void createEmployees_ShouldReportPartialFailures() {
+        List<CreateEmployeeRequest> requests = new ArrayList<>();
+        requests.add(request("ok@company.com", engineering.getId()));
+        requests.add(request("not-an-email", null));
+        requests.add(request("existing@company.com", null));
+        requests.add(request("ok@company.com", null));
+        requests.add(request("nodept@company.com", -1L));
+        requests.add(null);
+
+        EmployeeBatchResult result = employeeService.createEmployees(requests);
+
+        assertEquals(6, result.getTotalItems());
+        assertEquals(1, result.getCreatedItems());
+        assertEquals(List.of(1, 2, 3, 4, 5), result.getErrors().stream()
+                .map(EmployeeBatchResult.ItemError::getIndex)
+                .collect(Collectors.toList()));
+        assertEquals("This email already exists: existing@company.com", result.getErrors().get(1).getError());
+        assertEquals("Duplicate email in batch: ok@company.com", result.getErrors().get(2).getError());
+        assertEquals("Department not found with id: -1", result.getErrors().get(3).getError());
+    }
+
+    @Test
+    @DisplayName("createEmployees - Should reject an empty batch")
+    void createEmployees_ShouldThrow_WhenEmpty() {
+        assertThrows(IllegalArgumentException.class, () -> employeeService.createEmployees(List.of()));
+    }
+
+    private static CreateEmployeeRequest request(String email, Long departmentId) {
+        CreateEmployeeRequest request = new CreateEmployeeRequest();
+        request.setFirstName("First");
+        request.setLastName("Last");
+        request.setEmail(email);
+        request.setDepartmentId(departmentId);
+        return request;
+    }
+}
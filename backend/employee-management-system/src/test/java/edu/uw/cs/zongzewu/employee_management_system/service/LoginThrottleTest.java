@@ -0,0 +1,74 @@
+package edu.uw.cs.zongzewu.employee_management_system.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoginThrottleTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        throttle = new LoginThrottle(meterRegistry, Duration.ofMillis(300), 5, 3);
+    }
+
+    @Test
+    @DisplayName("checkAttempt - Should reject an address after max attempts in the window")
+    void checkAttempt_ShouldLimitPerIp() {
+        for (int i = 0; i < 5; i++) {
+            throttle.checkAttempt("user" + i, "10.0.0.1");
+        }
+
+        LoginRejectedException e = assertThrows(LoginRejectedException.class,
+                () -> throttle.checkAttempt("user9", "10.0.0.1"));
+        assertEquals(LoginRejectedException.Reason.THROTTLED, e.getReason());
+        assertDoesNotThrow(() -> throttle.checkAttempt("user9", "10.0.0.2"));
+        assertEquals(1.0, meterRegistry.get("auth.login.rejected").tag("reason", "throttled_ip").counter().count());
+    }
+
+    @Test
+    @DisplayName("checkAttempt - Should reject a username after max failures, from any address")
+    void checkAttempt_ShouldLimitFailuresPerUsername() {
+        for (int i = 0; i < 3; i++) {
+            throttle.checkAttempt("alice", "10.0.0." + i);
+            throttle.recordFailure("alice");
+        }
+
+        assertThrows(LoginRejectedException.class, () -> throttle.checkAttempt("Alice", "10.0.0.9"));
+        assertDoesNotThrow(() -> throttle.checkAttempt("bob", "10.0.0.9"));
+    }
+
+    @Test
+    @DisplayName("recordSuccess - Should clear the username's failures")
+    void recordSuccess_ShouldReset() {
+        throttle.recordFailure("alice");
+        throttle.recordFailure("alice");
+        throttle.recordSuccess("alice");
+        throttle.recordFailure("alice");
+
+        assertDoesNotThrow(() -> throttle.checkAttempt("alice", null));
+    }
+
+    @Test
+    @DisplayName("checkAttempt - Should allow attempts again once the window has slid past them")
+    void checkAttempt_ShouldSlide() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            throttle.recordFailure("alice");
+        }
+        assertThrows(LoginRejectedException.class, () -> throttle.checkAttempt("alice", null));
+
+        Thread.sleep(400);
+
+        assertDoesNotThrow(() -> throttle.checkAttempt("alice", null));
+    }
+}
@@ -0,0 +1,74 @@
+package edu.uw.cs.zongzewu.employee_management_system.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordHashingExecutorTest {
+
+    @Test
+    @DisplayName("matches - Should hash on the pool and record the latency")
+    void matches_ShouldUseEncoder() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PasswordHashingExecutor hashing = new PasswordHashingExecutor(
+                new BCryptPasswordEncoder(4), meterRegistry, 1, 4, Duration.ofSeconds(5));
+        try {
+            String encoded = hashing.encode("secret");
+
+            assertTrue(hashing.matches("secret", encoded));
+            assertFalse(hashing.matches("wrong", encoded));
+            assertEquals(3, meterRegistry.get("auth.password.hash").timer().count());
+        } finally {
+            hashing.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("matches - Should reject at once when the pool and its queue are full")
+    void matches_ShouldRejectWhenSaturated() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PasswordHashingExecutor hashing = new PasswordHashingExecutor(
+                blocking, meterRegistry, 1, 1, Duration.ofSeconds(5));
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            // one running, one queued
+            callers.submit(() -> hashing.matches("a", "x"));
+            callers.submit(() -> hashing.matches("b", "x"));
+            Thread.sleep(200);
+
+            LoginRejectedException e = assertThrows(LoginRejectedException.class, () -> hashing.matches("c", "x"));
+            assertEquals(LoginRejectedException.Reason.BUSY, e.getReason());
+            assertEquals(1.0, meterRegistry.get("auth.login.rejected").tag("reason", "busy").counter().count());
+        } finally {
+            release.countDown();
+            callers.shutdown();
+            callers.awaitTermination(5, TimeUnit.SECONDS);
+            hashing.shutdown();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package edu.uw.cs.zongzewu.employee_management_system.service;
+
+import edu.uw.cs.zongzewu.employee_management_system.entity.RevokedToken;
+import edu.uw.cs.zongzewu.employee_management_system.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationStoreTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationStore store;
+
+    @BeforeEach
+    void setUp() {
+        // polling off, the tests call sync() themselves
+        store = new TokenRevocationStore(revokedTokenRepository, Duration.ZERO, Duration.ofSeconds(30), Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("start - Should load the unexpired revocations")
+    void start_ShouldLoadFromDatabase() {
+        when(revokedTokenRepository.findByExpiresAtAfter(any()))
+                .thenReturn(List.of(row("stored", LocalDateTime.now().plusMinutes(5))));
+
+        store.start();
+
+        assertTrue(store.isRevoked("stored"));
+        assertFalse(store.isRevoked("other"));
+        assertFalse(store.isRevoked(null));
+    }
+
+    @Test
+    @DisplayName("revoke - Should apply locally at once and persist for the other nodes")
+    void revoke_ShouldStoreRow() {
+        store.start();
+        Date expiresAt = new Date(System.currentTimeMillis() + 60_000);
+
+        store.revoke("jti", expiresAt);
+
+        assertTrue(store.isRevoked("jti"));
+        ArgumentCaptor<RevokedToken> saved = ArgumentCaptor.forClass(RevokedToken.class);
+        verify(revokedTokenRepository).save(saved.capture());
+        assertEquals("jti", saved.getValue().getJti());
+    }
+
+    @Test
+    @DisplayName("revoke - Should ignore a token that has already expired")
+    void revoke_ShouldSkipExpired() {
+        store.start();
+
+        store.revoke("jti", new Date(System.currentTimeMillis() - 1000));
+
+        assertFalse(store.isRevoked("jti"));
+        verify(revokedTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("sync - Should pick up other nodes' revocations and drop expired entries")
+    void sync_ShouldMergeAndExpire() {
+        when(revokedTokenRepository.findByExpiresAtAfter(any()))
+                .thenReturn(List.of(row("expiring", LocalDateTime.now().plusNanos(50_000_000))));
+        store.start();
+        when(revokedTokenRepository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(any(), any()))
+                .thenReturn(List.of(row("remote", LocalDateTime.now().plusMinutes(5))));
+
+        sleep(100);
+        store.sync();
+
+        assertTrue(store.isRevoked("remote"));
+        assertFalse(store.isRevoked("expiring"));
+        assertEquals(1, store.size());
+        verify(revokedTokenRepository).deleteExpired(any());
+    }
+
+    private static RevokedToken row(String jti, LocalDateTime expiresAt) {
+        return new RevokedToken(jti, expiresAt, LocalDateTime.now());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
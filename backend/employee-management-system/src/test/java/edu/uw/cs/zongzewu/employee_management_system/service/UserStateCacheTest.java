@@ -0,0 +1,71 @@
+package edu.uw.cs.zongzewu.employee_management_system.service;
+
+import edu.uw.cs.zongzewu.employee_management_system.entity.User;
+import edu.uw.cs.zongzewu.employee_management_system.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserStateCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserStateCache userStateCache;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userStateCache = new UserStateCache(userRepository, Duration.ofMinutes(1), 100);
+        user = new User();
+        user.setUsername("alice");
+        user.setRole(User.Role.USER);
+        user.setEnabled(true);
+    }
+
+    @Test
+    @DisplayName("get - Should query the user once within the TTL")
+    void get_ShouldLoadOnce() {
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+
+        assertTrue(userStateCache.get("alice").matches(List.of("ROLE_USER"), true));
+        assertTrue(userStateCache.get("alice").matches(List.of("ROLE_USER"), true));
+
+        verify(userRepository, times(1)).findByUsername("alice");
+    }
+
+    @Test
+    @DisplayName("evictAfterCommit - Should pick up a disabled user on the next request")
+    void evict_ShouldReloadUser() {
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        userStateCache.get("alice");
+
+        user.setEnabled(false);
+        userStateCache.evictAfterCommit("alice");
+
+        assertFalse(userStateCache.get("alice").matches(List.of("ROLE_USER"), true));
+        verify(userRepository, times(2)).findByUsername("alice");
+    }
+
+    @Test
+    @DisplayName("get - Should not match a user that does not exist")
+    void get_ShouldNotMatchMissingUser() {
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        assertFalse(userStateCache.get("ghost").matches(List.of("ROLE_USER"), true));
+    }
+}
@@ -0,0 +1,88 @@
+package edu.uw.cs.zongzewu.employee_management_system.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "testSecretKey123456789012345678901234567890123456789012345678901234567890";
+
+    private final UserDetails user = User.withUsername("alice").password("unused").authorities(List.of()).build();
+
+    @Test
+    @DisplayName("verify - Should return the claims of a valid token")
+    void verify_ShouldReturnClaims() {
+        JwtUtil jwtUtil = jwtUtil(3_600_000L, 0);
+        String token = jwtUtil.generateRefreshToken(user);
+
+        Claims claims = jwtUtil.verify(token);
+
+        assertEquals("alice", claims.getSubject());
+        assertTrue(jwtUtil.isRefreshToken(claims));
+        assertTrue(jwtUtil.validateToken(token, user));
+    }
+
+    @Test
+    @DisplayName("verify - Should reject a token signed with another key")
+    void verify_ShouldRejectWrongSignature() {
+        String token = jwtUtil(3_600_000L, 0).generateAccessToken(user);
+        JwtUtil other = jwtUtil(3_600_000L, 100, SECRET.replace('1', '2'));
+
+        assertThrows(JwtException.class, () -> other.verify(token));
+        assertFalse(other.validateToken(token));
+        assertFalse(other.validateToken(token, user));
+    }
+
+    @Test
+    @DisplayName("verify - Should serve a verified token from the cache")
+    void verify_ShouldCacheVerifiedTokens() {
+        JwtUtil jwtUtil = jwtUtil(3_600_000L, 100);
+        String token = jwtUtil.generateAccessToken(user);
+
+        assertSame(jwtUtil.verify(token), jwtUtil.verify(token));
+    }
+
+    @Test
+    @DisplayName("verify - Should reject a cached token once it has expired")
+    void verify_ShouldRejectExpiredCachedToken() throws InterruptedException {
+        JwtUtil jwtUtil = jwtUtil(1_000L, 100);
+        String token = jwtUtil.generateAccessToken(user);
+        jwtUtil.verify(token);
+
+        // exp has second precision
+        Thread.sleep(2_100);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(token));
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(token));
+    }
+
+    private static JwtUtil jwtUtil(long accessTokenExpiration, long cacheSize) {
+        return jwtUtil(accessTokenExpiration, cacheSize, SECRET);
+    }
+
+    private static JwtUtil jwtUtil(long accessTokenExpiration, long cacheSize, String secret) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", secret);
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", accessTokenExpiration);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", 604_800_000L);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheSize", cacheSize);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheTtl", Duration.ofMinutes(1));
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
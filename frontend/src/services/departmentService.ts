@@ -6,10 +6,13 @@ import {
     CreateDepartmentRequest,
     UpdateDepartmentRequest,
     ApiResponseDepartmentDTO,
-    ApiResponseListDepartmentDTO,
+    ApiResponsePageDepartmentDTO,
     ApiResponseVoid,
 } from '../types/api';
 
+// Largest page the backend will return (PaginationUtil.MAX_PAGE_SIZE)
+const PAGE_SIZE = 100;
+
 /**
  * Department Service - Handles all department-related API requests
  */
@@ -20,10 +23,10 @@ export class DepartmentService {
      */
     static async getAllDepartmentsSummary(): Promise<DepartmentSummaryDTO[]> {
         try {
-            const response: ApiResponseListDepartmentDTO = await api.get('/departments?includeEmployees=false');
+            const response: ApiResponsePageDepartmentDTO = await api.get(`/departments?includeEmployees=false&size=${PAGE_SIZE}`);
             if (response.success && response.data) {
                 // Convert to DepartmentSummaryDTO format
-                const summaryDepartments: DepartmentSummaryDTO[] = response.data.map(dept => ({
+                const summaryDepartments: DepartmentSummaryDTO[] = response.data.content.map(dept => ({
                     id: dept.id,
                     name: dept.name,
                     location: dept.location,
@@ -42,9 +45,9 @@ export class DepartmentService {
      */
     static async getAllDepartmentsWithEmployees(): Promise<DepartmentDTO[]> {
         try {
-            const response: ApiResponseListDepartmentDTO = await api.get('/departments?includeEmployees=true');
+            const response: ApiResponsePageDepartmentDTO = await api.get(`/departments?includeEmployees=true&size=${PAGE_SIZE}`);
             if (response.success && response.data) {
-                return response.data;
+                return response.data.content;
             }
             throw new Error(response.message || 'Failed to fetch departments with employees');
         } catch (error: any) {
@@ -135,9 +138,9 @@ export class DepartmentService {
      */
     static async searchDepartmentsByName(name: string): Promise<DepartmentSummaryDTO[]> {
         try {
-            const response: ApiResponseListDepartmentDTO = await api.get(`/departments/search/name?name=${encodeURIComponent(name)}`);
+            const response: ApiResponsePageDepartmentDTO = await api.get(`/departments/search/name?name=${encodeURIComponent(name)}&size=${PAGE_SIZE}`);
             if (response.success && response.data) {
-                return response.data.map(dept => ({
+                return response.data.content.map(dept => ({
                     id: dept.id,
                     name: dept.name,
                     location: dept.location,
@@ -155,9 +158,9 @@ export class DepartmentService {
      */
     static async getEmptyDepartments(): Promise<DepartmentDTO[]> {
         try {
-            const response: ApiResponseListDepartmentDTO = await api.get('/departments/empty');
+            const response: ApiResponsePageDepartmentDTO = await api.get(`/departments/empty?size=${PAGE_SIZE}`);
             if (response.success && response.data) {
-                return response.data;
+                return response.data.content;
             }
             throw new Error(response.message || 'Failed to fetch empty departments');
         } catch (error: any) {
@@ -5,11 +5,14 @@ import {
     CreateEmployeeRequest,
     UpdateEmployeeRequest,
     ApiResponseEmployeeDTO,
-    ApiResponseListEmployeeDTO,
+    ApiResponsePageEmployeeDTO,
     ApiResponseLong,
     EmployeeStatus, ApiResponseVoid,
 } from '../types/api';
 
+// Largest page the backend will return (PaginationUtil.MAX_PAGE_SIZE)
+const PAGE_SIZE = 100;
+
 /**
  * Employee Service - handle all the employee related Api requests
  */
@@ -20,9 +23,9 @@ export class EmployeeService {
      */
     static async getAllEmployees(): Promise<EmployeeDTO[]> {
         try {
-            const response: ApiResponseListEmployeeDTO = await api.get('/employees');
+            const response: ApiResponsePageEmployeeDTO = await api.get(`/employees?size=${PAGE_SIZE}`);
             if (response.success && response.data) {
-                return response.data;
+                return response.data.content;
             }
 
             throw new Error(response.message || 'Failed to fetch employees');
@@ -122,9 +125,9 @@ export class EmployeeService {
      */
     static async getEmployeesByStatus(status: EmployeeStatus): Promise<EmployeeDTO[]> {
         try {
-            const response: ApiResponseListEmployeeDTO = await api.get(`/employees/status/${status}`);
+            const response: ApiResponsePageEmployeeDTO = await api.get(`/employees/status/${status}?size=${PAGE_SIZE}`);
             if (response.success && response.data) {
-                return response.data;
+                return response.data.content;
             }
             throw new Error(response.message || 'Failed to fetch employees by status');
         } catch (error: any) {
@@ -137,9 +140,9 @@ export class EmployeeService {
      */
     static async getEmployeesByDepartment(departmentId: number): Promise<EmployeeDTO[]> {
         try {
-            const response: ApiResponseListEmployeeDTO = await api.get(`/employees/department/${departmentId}`);
+            const response: ApiResponsePageEmployeeDTO = await api.get(`/employees/department/${departmentId}?size=${PAGE_SIZE}`);
             if (response.success && response.data) {
-                return response.data;
+                return response.data.content;
             }
             throw new Error(response.message || 'Failed to fetch employees by department');
         } catch (error: any) {
@@ -152,9 +155,9 @@ export class EmployeeService {
      */
     static async searchEmployees(name: string): Promise<EmployeeDTO[]> {
         try {
-            const response: ApiResponseListEmployeeDTO = await api.get(`/employees/search?name=${encodeURIComponent(name)}`);
+            const response: ApiResponsePageEmployeeDTO = await api.get(`/employees/search?name=${encodeURIComponent(name)}&size=${PAGE_SIZE}`);
             if (response.success && response.data) {
-                return response.data;
+                return response.data.content;
             }
             throw new Error(response.message || 'Failed to search employees by name');
         } catch (error: any) {
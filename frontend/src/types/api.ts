@@ -13,6 +13,17 @@ export interface ApiResponseVoid extends ApiResponse<object> {}
 export interface ApiResponseBoolean extends ApiResponse<boolean> {}
 export interface ApiResponseLong extends ApiResponse<number> {}
 
+// Server-side pagination envelope returned by every list endpoint
+export interface PageResponse<T> {
+    content: T[];
+    page: number;
+    size: number;
+    totalElements: number;
+    totalPages: number;
+    first: boolean;
+    last: boolean;
+}
+
 // ====================== Authentication related types ======================
 export interface LoginRequest {
     username: string;
@@ -138,9 +149,9 @@ export interface UpdateDepartmentRequest {
 
 // ====================== API Response Types ======================
 export interface ApiResponseEmployeeDTO extends ApiResponse<EmployeeDTO> {}
-export interface ApiResponseListEmployeeDTO extends ApiResponse<EmployeeDTO[]> {}
+export interface ApiResponsePageEmployeeDTO extends ApiResponse<PageResponse<EmployeeDTO>> {}
 export interface ApiResponseDepartmentDTO extends ApiResponse<DepartmentDTO> {}
-export interface ApiResponseListDepartmentDTO extends ApiResponse<DepartmentDTO[]> {}
+export interface ApiResponsePageDepartmentDTO extends ApiResponse<PageResponse<DepartmentDTO>> {}
 
 // ====================== API Parameter types ======================
 export interface EmployeeSearchParams {